@@ -0,0 +1,66 @@
+package com.Trekkit_Java.Util;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.Trekkit_Java.Config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+// 요청 하나가 토큰을 검증하는 비용 비교
+// uncachedRequest: 기존 방식 (필터 validate + 컨트롤러 extractUserId, 매번 서명 검증)
+// cachedRequest: JwtUtil 검증 캐시 사용 (같은 토큰은 exp 전까지 서명 검증 생략)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+	private JwtUtil jwtUtil;
+	private SecretKey secretKey;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		jwtUtil = new JwtUtil(properties);
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+		token = jwtUtil.generateToken(42L, "user", "web");
+	}
+
+	@Benchmark
+	public Long uncachedRequest() {
+		Jwts.parserBuilder().setSigningKey(secretKey)
+				.requireIssuer("trekkit").requireAudience("web")
+				.build().parseClaimsJws(token);
+		Claims claims = Jwts.parserBuilder().setSigningKey(secretKey)
+				.build().parseClaimsJws(token).getBody();
+		return claims.get("id", Long.class);
+	}
+
+	@Benchmark
+	public Long cachedRequest() {
+		jwtUtil.validateToken(token, "web");
+		return jwtUtil.extractUserId(token);
+	}
+}
@@ -10,8 +10,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.Trekkit_Java.DAO.LoginDAO;
 import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.Service.UserCache;
 import com.Trekkit_Java.Util.JwtUtil;
 
 import jakarta.servlet.FilterChain;
@@ -25,7 +25,7 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthFilter extends OncePerRequestFilter {
 	
 	@Autowired private JwtUtil jwtUtil;
-	@Autowired private LoginDAO ld;
+	@Autowired private UserCache userCache;
 	
 	// filter를 안거칠 url
 	@Override
@@ -67,8 +67,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             if (token != null && clientType != null && jwtUtil.validateToken(token, clientType)) {
                 try {
-                    Long id = jwtUtil.extractUserId(token);
-                    User user = ld.findById(id);
+                    // 검증된 클레임을 request에 저장해서 컨트롤러에서 다시 파싱하지 않도록 함
+                    Long id = jwtUtil.getClaims(request, token).get("id", Long.class);
+                    User user = userCache.get(id); // 캐시 (없을 때만 DB 조회)
                     if (user != null) {
                         UsernamePasswordAuthenticationToken auth =
                             new UsernamePasswordAuthenticationToken(
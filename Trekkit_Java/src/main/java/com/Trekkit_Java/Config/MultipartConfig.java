@@ -0,0 +1,30 @@
+package com.Trekkit_Java.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.servlet.MultipartConfigElement;
+
+// 업로드 크기 제한 (spring.servlet.multipart.* 값이 있으면 그 값을 사용)
+// 가입/게시글 이미지 업로드가 한 요청으로 메모리나 디스크를 채우지 않도록 기본값을 둠
+// 업로드는 임시 파일로 받고 ImagePipeline이 스트림으로 읽음
+
+@Configuration
+public class MultipartConfig {
+
+	@Bean
+	public MultipartConfigElement multipartConfigElement(
+			@Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxFileSize,
+			@Value("${spring.servlet.multipart.max-request-size:50MB}") DataSize maxRequestSize,
+			@Value("${spring.servlet.multipart.file-size-threshold:0B}") DataSize fileSizeThreshold) {
+		MultipartConfigFactory factory = new MultipartConfigFactory();
+		factory.setMaxFileSize(maxFileSize); // 파일 한 개
+		factory.setMaxRequestSize(maxRequestSize); // 요청 전체 (게시글 이미지 여러 장)
+		factory.setFileSizeThreshold(fileSizeThreshold);
+		return factory.createMultipartConfig();
+	}
+
+}
@@ -62,6 +62,7 @@ public class SecurityConfig {
         
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE"));
         config.setAllowedHeaders(Arrays.asList("*"));
+        config.setExposedHeaders(Arrays.asList("ETag")); // 프론트에서 ETag를 읽어 If-None-Match로 보낼 수 있게
         config.setAllowCredentials(true); // 쿠키/인증 정보 허용
 
         // Api주소 집어넣기
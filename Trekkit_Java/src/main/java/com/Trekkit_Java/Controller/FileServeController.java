@@ -0,0 +1,48 @@
+package com.Trekkit_Java.Controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UriUtils;
+
+import com.Trekkit_Java.Service.StaticFileServer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 업로드 파일 제공 (/uploads/**, /profile/**)
+// ETag/304, Range, 캐시 헤더, sendfile 전송은 StaticFileServer에서 처리
+@Controller
+public class FileServeController {
+
+	@Autowired private StaticFileServer staticFileServer;
+
+	@Value("${file.upload.path}")
+	private String uploadPath;
+
+	private final Path profilePath = Paths.get(System.getProperty("user.dir"), "uploads", "profile");
+
+	// 업로드 폴더 안의 캐시(브이월드 타일)와 등산로 파일은 공개하지 않음
+	@RequestMapping(value = "/uploads/**", method = { RequestMethod.GET, RequestMethod.HEAD })
+	public void upload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		staticFileServer.serve(request, response, Paths.get(uploadPath), relative(request, "/uploads/"), "cache", "trails");
+	}
+
+	@RequestMapping(value = "/profile/**", method = { RequestMethod.GET, RequestMethod.HEAD })
+	public void profile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		staticFileServer.serve(request, response, profilePath, relative(request, "/profile/"));
+	}
+
+	private static String relative(HttpServletRequest request, String prefix) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return UriUtils.decode(path.substring(prefix.length()), StandardCharsets.UTF_8);
+	}
+
+}
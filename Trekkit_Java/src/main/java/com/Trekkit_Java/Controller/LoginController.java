@@ -21,9 +21,9 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.Trekkit_Java.DAO.LoginDAO;
 import com.Trekkit_Java.DTO.User;
 import com.Trekkit_Java.Service.LoginService;
+import com.Trekkit_Java.Service.UserCache;
 import com.Trekkit_Java.Util.JwtUtil;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -34,7 +34,7 @@ public class LoginController {
 	
 	@Autowired private LoginService ls;
 	@Autowired private JwtUtil jwtUtil;
-	@Autowired private LoginDAO ld;
+	@Autowired private UserCache userCache;
 	
 	@PostMapping("/dologin")
 	public ResponseEntity<?> doLogin(@RequestBody Map<String, String> req,
@@ -158,7 +158,7 @@ public class LoginController {
 	            return ResponseEntity.ok(result);
 	        }
 
-	        User user = ld.findById(userId);
+	        User user = userCache.get(userId);
 	        if (user == null) {
 	            result.put("isLogin", false);
 	            return ResponseEntity.ok(result);
@@ -0,0 +1,48 @@
+package com.Trekkit_Java.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.ExternalAPI.OutboundHttpClient;
+import com.Trekkit_Java.Service.MailQueue;
+import com.Trekkit_Java.Service.UserCache;
+import com.Trekkit_Java.Util.ExtractToken;
+import com.Trekkit_Java.Util.JwtUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 운영 지표 조회 (관리자만)
+// http: 외부 API 호스트별 요청 수, 실패 수, 평균/최대 응답 시간, 사용 중인 동시 요청 수
+// mail: 메일 큐 대기열 길이, 발송 중, 성공/실패/재시도/거부 수, 평균 발송 시간
+@RestController
+public class MetricsController {
+
+	@Autowired private OutboundHttpClient outboundHttpClient;
+	@Autowired private MailQueue mailQueue;
+	@Autowired private JwtUtil jwtUtil;
+	@Autowired private UserCache userCache;
+
+	@GetMapping("/admin/metrics")
+	public ResponseEntity<?> metrics(HttpServletRequest request) {
+		String token = ExtractToken.extractToken(request);
+		if (token == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
+		}
+		User user = userCache.get(jwtUtil.extractUserId(token));
+		if (user == null || !"ADMIN".equalsIgnoreCase(user.getUsertype())) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자 권한이 없습니다."));
+		}
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("http", outboundHttpClient.metrics());
+		metrics.put("mail", mailQueue.metrics());
+		return ResponseEntity.ok(metrics);
+	}
+
+}
@@ -1,9 +1,7 @@
 package com.Trekkit_Java.Controller;
 
-import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -19,8 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.Trekkit_Java.DAO.LoginDAO;
-import com.Trekkit_Java.DAO.ModifyDAO;
 import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.Service.ImagePipeline;
 import com.Trekkit_Java.Service.ModifyService;
 import com.Trekkit_Java.Util.ExtractToken;
 import com.Trekkit_Java.Util.JwtUtil;
@@ -35,7 +33,7 @@ public class ModifyController {
 	@Autowired private PasswordEncoder passwordEncoder;
 	@Autowired private LoginDAO ld;
 	@Autowired private ModifyService ms;
-	@Autowired private ModifyDAO md;
+	@Autowired private ImagePipeline imagePipeline;
 	
 	@PostMapping("/checkuser")
 	public ResponseEntity<Boolean> checkUser(@RequestBody Map<String, String> req, HttpServletRequest request) {
@@ -147,15 +145,11 @@ public class ModifyController {
 	        // 4. 프로필 이미지 저장
 	        String profileUrl = null;
 	        if (profileImage != null && !profileImage.isEmpty()) {
-	            String saveDir = System.getProperty("user.dir") + "/uploads/profile/";
-	            String fileName = UUID.randomUUID() + "_" + profileImage.getOriginalFilename();
-	            String fullPath = saveDir + fileName;
-
-	            File dir = new File(saveDir);
-	            if (!dir.exists()) dir.mkdirs();
-
-	            profileImage.transferTo(new File(fullPath));
-	            profileUrl = "/profile/" + fileName;
+	            try {
+	                profileUrl = imagePipeline.storeProfileImage(profileImage); // 정사각형으로 줄여서 저장
+	            } catch (IllegalArgumentException e) {
+	                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+	            }
 	        }
 
 	        // 5. 서비스 호출
@@ -203,7 +197,7 @@ public class ModifyController {
 	        }
 
 	        // 4. 사용자 삭제
-	        int result = md.deleteUser(userId);
+	        int result = ms.deleteUser(userId);
 	        if (result == 0) {
 	            return ResponseEntity.status(500).body("삭제 실패");
 	        }
@@ -1,6 +1,5 @@
 package com.Trekkit_Java.Controller;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -9,11 +8,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.Trekkit_Java.DAO.MountainDAO;
 import com.Trekkit_Java.DTO.MountainDTO;
+import com.Trekkit_Java.DTO.MountainListResponse;
+import com.Trekkit_Java.DTO.MountainSuggestionDTO;
 import com.Trekkit_Java.Model.Mountain;
 import com.Trekkit_Java.Service.MountainService;
 
@@ -25,10 +27,10 @@ public class MountainController {
     private MountainService mountainService;
     
     @PostMapping("/list")
-    public Map<String, Object> getMountains(@RequestBody Map<String, Object> request) {
-        int page = Integer.parseInt(request.get("page").toString());
-        int size = Integer.parseInt(request.get("size").toString());
-        String search = (String) request.get("search") != null ? request.get("search").toString() : "";
+    public MountainListResponse getMountains(@RequestBody Map<String, Object> request) {
+        int page = Math.max(Integer.parseInt(request.get("page").toString()), 1);
+        int size = Math.max(Integer.parseInt(request.get("size").toString()), 1);
+        String search = request.get("search") != null ? request.get("search").toString() : "";
         String location = request.get("location") != null ? request.get("location").toString() : "";
         String initial = request.get("initial") != null ? request.get("initial").toString() : "";
         String sort = request.get("sort") != null ? request.get("sort").toString() : "";
@@ -41,16 +43,8 @@ public class MountainController {
             orderBy = "mntiname ASC";
         }
 
-        List<Mountain> data = mountainService.filteredMountains(page, size, search, location, initial, orderBy);
-        int totalCount = mountainService.countByInitial(location, search, initial);
-        int totalPages = (int) Math.ceil((double) totalCount / size);
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("mountains", data);
-        result.put("totalPages", totalPages);
-        result.put("currentPage", page);
-
-        return result;
+        // 목록과 전체 개수를 한 번에 조회
+        return mountainService.getMountainList(page, size, search, location, initial, orderBy);
     }
     
     @PostMapping("/detail")
@@ -70,4 +64,11 @@ public class MountainController {
         String name = body.get("name");
         return mountainService.searchByName(name);
     }
+    
+    // 검색창 자동완성 (입력할 때마다 호출, DB 조회 없음)
+    @GetMapping("/autocomplete")
+    public List<MountainSuggestionDTO> autocomplete(@RequestParam(value = "q", required = false) String q,
+                                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return mountainService.autocomplete(q, limit);
+    }
 }
\ No newline at end of file
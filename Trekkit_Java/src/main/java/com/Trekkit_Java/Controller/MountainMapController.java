@@ -0,0 +1,52 @@
+package com.Trekkit_Java.Controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.Trekkit_Java.DTO.MountainPointDTO;
+import com.Trekkit_Java.Service.MountainSpatialIndex;
+
+// 지도 화면용 산 좌표 검색 (메모리 격자 인덱스, DB 조회 없음)
+@RestController
+@RequestMapping("/mountainmap")
+public class MountainMapController {
+
+	private static final int MAX_BOX_RESULTS = 1000;
+	private static final int MAX_NEAREST = 50;
+
+	@Autowired
+	private MountainSpatialIndex spatialIndex;
+
+	// 지도 화면 범위 안의 산
+	@GetMapping("/bbox")
+	public ResponseEntity<?> withinBox(@RequestParam("minLat") double minLat,
+	                                   @RequestParam("minLng") double minLng,
+	                                   @RequestParam("maxLat") double maxLat,
+	                                   @RequestParam("maxLng") double maxLng,
+	                                   @RequestParam(value = "limit", defaultValue = "500") int limit) {
+		if (minLat > maxLat || minLng > maxLng) {
+			return ResponseEntity.badRequest().body("범위가 올바르지 않습니다.");
+		}
+		List<MountainPointDTO> points = spatialIndex.withinBox(minLat, minLng, maxLat, maxLng,
+				Math.min(Math.max(limit, 1), MAX_BOX_RESULTS));
+		return ResponseEntity.ok(points);
+	}
+
+	// 내 주변 산 (가까운 순)
+	@GetMapping("/nearby")
+	public ResponseEntity<?> nearby(@RequestParam("lat") double lat,
+	                                @RequestParam("lng") double lng,
+	                                @RequestParam(value = "k", defaultValue = "10") int k) {
+		try {
+			return ResponseEntity.ok(spatialIndex.nearest(lat, lng, Math.min(Math.max(k, 1), MAX_NEAREST)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage()); // 위도 -90~90, 경도 -180~180 밖이거나 NaN
+		}
+	}
+}
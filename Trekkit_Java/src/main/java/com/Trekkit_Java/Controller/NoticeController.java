@@ -2,8 +2,8 @@ package com.Trekkit_Java.Controller;
 
 import com.Trekkit_Java.DTO.NoticeDTO; // 공지사항 데이터 전송 객체(DTO) 임포트
 import com.Trekkit_Java.DTO.User; // 사용자 정보를 담는 DTO 임포트 (관리자 권한 확인용)
-import com.Trekkit_Java.DAO.LoginDAO; // 사용자 DAO 임포트 (사용자 조회용)
 import com.Trekkit_Java.Service.NoticeService; // 공지사항 관련 비즈니스 로직 서비스 임포트
+import com.Trekkit_Java.Service.UserCache; // 사용자 정보 캐시 임포트 (관리자 권한 확인용)
 import com.Trekkit_Java.Util.ExtractToken; // JWT 토큰 추출 유틸리티 임포트
 import com.Trekkit_Java.Util.JwtUtil; // JWT 유틸리티 (토큰 파싱 등) 임포트
 import jakarta.servlet.http.HttpServletRequest; // HTTP 요청 정보 접근을 위한 임포트
@@ -30,8 +30,8 @@ public class NoticeController {
     @Autowired // JwtUtil을 자동으로 주입받습니다.
     private JwtUtil jwtUtil;
 
-    @Autowired // LoginDAO를 자동으로 주입받습니다.
-    private LoginDAO loginDAO;
+    @Autowired // UserCache를 자동으로 주입받습니다.
+    private UserCache userCache;
 
     /**
      * 현재 HTTP 요청에서 JWT 토큰을 추출하고, 토큰에서 사용자 ID를 얻은 후,
@@ -50,8 +50,8 @@ public class NoticeController {
         }
         // JWT 토큰에서 사용자 ID를 추출합니다.
         Long userId = jwtUtil.extractUserId(token);
-        // 추출된 userId로 데이터베이스에서 사용자 정보를 조회합니다.
-        User user = loginDAO.findById(userId);
+        // 추출된 userId로 사용자 정보를 조회합니다. (캐시에 없을 때만 데이터베이스를 조회합니다)
+        User user = userCache.get(userId);
         // 사용자가 없거나, 사용자 타입이 'ADMIN'이 아니면 권한 없음 예외를 던집니다.
         if (user == null || !"ADMIN".equalsIgnoreCase(user.getUsertype())) {
             throw new SecurityException("관리자 권한이 없습니다.");
@@ -4,7 +4,6 @@ import java.util.HashMap; // HashMap 사용을 위한 임포트
 import java.util.List; // List 인터페이스 사용을 위한 임포트
 import java.util.Map; // Map 인터페이스 사용을 위한 임포트
 
-import org.springframework.beans.factory.annotation.Value; // Spring의 @Value 어노테이션 임포트 (속성 값 주입)
 import org.springframework.http.HttpStatus; // HTTP 상태 코드 사용을 위한 임포트
 import org.springframework.http.ResponseEntity; // HTTP 응답을 위한 클래스 임포트
 import org.springframework.web.bind.annotation.DeleteMapping; // DELETE HTTP 메서드 매핑 어노테이션
@@ -20,11 +19,11 @@ import org.springframework.web.bind.annotation.RestController; // REST 컨트롤
 import org.springframework.web.multipart.MultipartFile; // 파일 업로드를 위한 MultipartFile 임포트
 
 import com.Trekkit_Java.DTO.PostDTO; // 게시글 데이터 전송 객체(DTO) 임포트
+import com.Trekkit_Java.Service.ImagePipeline; // 업로드 이미지 변형(썸네일) 경로 계산
 import com.Trekkit_Java.Service.PostService; // 게시글 관련 비즈니스 로직 서비스 임포트
 import com.Trekkit_Java.Util.JwtUtil; // JWT 유틸리티 (토큰 파싱 등) 임포트
 
 import io.jsonwebtoken.Claims; // JWT 클레임(페이로드) 접근
-import io.jsonwebtoken.Jwts; // JWT 파싱 및 생성 유틸리티
 import jakarta.servlet.http.HttpServletRequest; // HTTP 요청 정보 접근을 위한 임포트
 import lombok.RequiredArgsConstructor; // Lombok의 @RequiredArgsConstructor 어노테이션
 
@@ -40,8 +39,7 @@ public class PostController {
     private final PostService postService; // PostService를 주입받아 게시글 관련 비즈니스 로직을 수행합니다.
     private final JwtUtil jwtUtil; // JwtUtil을 주입받아 JWT 관련 유틸리티 기능을 사용합니다.
 
-    @Value("${jwt.secret}") // 'jwt.secret' 속성 값을 application.properties 또는 application.yml에서 주입받습니다.
-    private String jwtSecret;
+    private static final int MAX_STATE_IDS = 100; // 좋아요/북마크 상태를 한 번에 조회할 수 있는 최대 게시글 수
 
     /**
      * HTTP 요청(HttpServletRequest)에서 JWT 토큰을 추출하고 파싱하여 사용자 ID(Long 타입)를 반환하는 헬퍼 메서드입니다.
@@ -84,13 +82,9 @@ public class PostController {
                 return null;
             }
 
-            // JWT 파싱 및 클레임(payload) 추출
-            // `jwtSecret`를 바이트 배열로 변환하여 서명 키로 설정하고 토큰을 파싱합니다.
-            Claims claims = Jwts.parserBuilder()
-                                .setSigningKey(jwtSecret.getBytes()) // JWT 서명에 사용된 시크릿 키를 설정합니다.
-                                .build()
-                                .parseClaimsJws(token) // JWS(JSON Web Signature) 토큰을 파싱합니다.
-                                .getBody(); // 토큰의 페이로드(클레임)를 가져옵니다.
+            // JWT 클레임(payload) 추출
+            // JwtAuthFilter가 이미 검증한 클레임이 request에 있으면 재사용하고, 없으면 JwtUtil로 검증합니다. (검증 결과는 토큰 만료 전까지 캐시됨)
+            Claims claims = jwtUtil.getClaims(request, token);
 
             // 클레임에서 'id' 필드를 Long 타입으로 추출합니다. JWT 페이로드에 사용자 ID가 'id'라는 키로 저장되어 있다고 가정합니다.
             Long userId = claims.get("id", Long.class);
@@ -115,8 +109,12 @@ public class PostController {
      * @param size 페이지당 게시글 개수 (기본값: 10).
      * @param sort 게시글 정렬 기준 (예: "최신순", "인기순").
      * @param mountain 특정 산으로 필터링할 경우의 산 이름 (선택 사항).
+     * @param cursor 커서 모드로 조회할 때 이전 응답의 `nextCursor` 값 (선택 사항).
+     *               파라미터가 없으면 기존 OFFSET 방식(page 사용)으로, 빈 값(`cursor=`)이면 커서 모드의 첫 페이지로 조회합니다.
      * @param request (옵션) JWT 디버깅을 위해 HttpServletRequest를 주입받을 수 있습니다.
-     * @return 게시글 목록과 전체 개수(`totalCount`)를 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
+     * @return OFFSET 모드: 게시글 목록과 전체 개수(`totalCount`)를 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
+     *         커서 모드: 게시글 목록, 다음 페이지 커서(`nextCursor`), 다음 페이지 존재 여부(`hasNext`)를 포함하는 Map을 반환합니다.
+     *         커서가 잘못되었거나 size가 1~100 범위를 벗어난 경우 HTTP 400 Bad Request 응답을 반환합니다.
      */
     @GetMapping // GET 요청을 "/api/posts" 경로로 매핑합니다.
     public ResponseEntity<Map<String, Object>> getPosts(
@@ -124,6 +122,7 @@ public class PostController {
             @RequestParam(name = "size", defaultValue = "10") int size, // 'size' 쿼리 파라미터, 기본값 10
             @RequestParam(name = "sort", defaultValue = "최신순") String sort, // 'sort' 쿼리 파라미터, 기본값 "최신순"
             @RequestParam(name = "mountain", required = false) String mountain, // 'mountain' 쿼리 파라미터 (선택 사항)
+            @RequestParam(name = "cursor", required = false) String cursor, // 'cursor' 쿼리 파라미터 (선택 사항, 커서 모드)
             HttpServletRequest request) { // HttpServletRequest를 주입받아 JWT 디버깅에 사용할 수 있습니다.
 
         // Long debugUserId = getUserIdFromJwtToken(request); // 디버깅 목적으로 주석 해제하여 현재 로그인된 사용자 ID를 확인할 수 있습니다.
@@ -131,6 +130,15 @@ public class PostController {
 
         // PostService를 통해 필터링 및 정렬된 게시글 목록을 가져옵니다.
     	System.out.println("게시글 조회");
+        if (cursor != null) {
+            try {
+                // 커서 모드: 이전 페이지 마지막 게시글 다음부터 조회합니다.
+                return ResponseEntity.ok(postService.getPostsByCursor(cursor, size, sort, mountain));
+            } catch (IllegalArgumentException e) {
+                // 커서 형식이 잘못되었거나 정렬 기준이 다르거나 size가 범위를 벗어나면 HTTP 400 Bad Request 응답을 반환합니다.
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+            }
+        }
         Map<String, Object> response = postService.getAllPosts(page, size, sort, mountain);
         return ResponseEntity.ok(response); // HTTP 200 OK 상태 코드와 함께 응답 데이터를 반환합니다.
     }
@@ -206,8 +214,13 @@ public class PostController {
         try {
             // PostService를 통해 이미지 파일들을 업로드하고, 저장된 경로 리스트를 반환받습니다.
             List<String> uploadedPaths = postService.uploadPostImages(files);
-            // 업로드된 이미지 경로 리스트와 함께 HTTP 200 OK 응답을 반환합니다.
-            return ResponseEntity.ok(Map.of("imagePaths", uploadedPaths));
+            // 업로드된 이미지 경로 리스트(와 미리보기용 썸네일 경로)와 함께 HTTP 200 OK 응답을 반환합니다.
+            return ResponseEntity.ok(Map.of(
+                    "imagePaths", uploadedPaths,
+                    "thumbnailPaths", uploadedPaths.stream().map(ImagePipeline::thumbnailOf).toList()));
+        } catch (IllegalArgumentException e) {
+            // 이미지가 아닌 파일이 섞여 있으면 잘못된 요청 응답을 반환합니다.
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace(); // 예외 발생 시 스택 트레이스를 출력합니다.
             // 이미지 업로드 중 예외 발생 시 서버 내부 오류 응답을 반환합니다.
@@ -295,6 +308,7 @@ public class PostController {
      * @param postId 좋아요를 토글할 게시글의 고유 ID (경로 변수).
      * @param request 현재 HTTP 요청 객체 (JWT 토큰 추출용).
      * @return 좋아요 상태(`isLiked`)와 갱신된 좋아요 수(`likeCount`)를 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
+     *         게시글이 없으면 HTTP 404 Not Found 응답을 반환합니다.
      */
     @PostMapping("/{postId}/like") // POST 요청을 "/api/posts/{postId}/like" 경로로 매핑합니다.
     public ResponseEntity<Map<String, Object>> toggleLike(@PathVariable("postId") Long postId,
@@ -312,6 +326,9 @@ public class PostController {
             int likeCount = postService.getLikeCount(postId);
             // 좋아요 상태와 좋아요 수를 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
             return ResponseEntity.ok(Map.of("isLiked", isLiked, "likeCount", likeCount));
+        } catch (IllegalArgumentException e) {
+            // 게시글이 없으면 HTTP 404 Not Found 응답을 반환합니다.
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "게시글을 찾을 수 없습니다."));
         } catch (Exception e) {
             e.printStackTrace(); // 예외 발생 시 스택 트레이스를 출력합니다.
             // 좋아요 처리 중 기타 예외 발생 시 서버 내부 오류 응답을 반환합니다.
@@ -352,6 +369,34 @@ public class PostController {
         }
     }
 
+    /**
+     * 여러 게시글에 대한 현재 사용자의 좋아요/북마크 여부를 한 번에 조회합니다.
+     * 피드 화면에서 게시글마다 상태를 따로 요청하지 않도록(N+1 방지) 사용됩니다.
+     * 이 API는 인증이 필요하며, JWT 토큰으로 사용자 ID를 확인합니다.
+     *
+     * @param ids 상태를 조회할 게시글 ID 목록 (예: `?ids=1,2,3`, 최대 100개).
+     * @param request 현재 HTTP 요청 객체 (JWT 토큰 추출용).
+     * @return 좋아요한 게시글 ID 목록(`likedPostIds`)과 북마크한 게시글 ID 목록(`bookmarkedPostIds`)을 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
+     */
+    @GetMapping("/states") // GET 요청을 "/api/posts/states" 경로로 매핑합니다.
+    public ResponseEntity<Map<String, Object>> getUserStates(@RequestParam("ids") List<Long> ids,
+                                                            HttpServletRequest request) {
+        Long userId = getUserIdFromJwtToken(request); // JWT 토큰에서 사용자 ID를 추출합니다.
+
+        // 사용자 ID가 null이면 인증되지 않음 응답을 반환합니다.
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
+        }
+        // 한 번에 조회할 수 있는 게시글 수를 제한합니다.
+        if (ids.size() > MAX_STATE_IDS) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "한 번에 최대 " + MAX_STATE_IDS + "개까지 조회할 수 있습니다."));
+        }
+        if (ids.isEmpty()) {
+            return ResponseEntity.ok(Map.of("likedPostIds", List.of(), "bookmarkedPostIds", List.of()));
+        }
+        return ResponseEntity.ok(postService.getUserStates(userId, ids));
+    }
+
     /**
      * 모든 산의 이름을 조회합니다.
      * 이 API는 인증이 필요하지 않지만, 'X-Client-Type' 헤더를 필수로 요구합니다.
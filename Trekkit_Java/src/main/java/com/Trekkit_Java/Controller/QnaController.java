@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping; // POST HTTP 메서
 import org.springframework.web.bind.annotation.PutMapping; // PUT HTTP 메서드 매핑 어노테이션
 import org.springframework.web.bind.annotation.RequestBody; // 요청 본문 매핑 어노테이션
 import org.springframework.web.bind.annotation.RequestMapping; // 요청 매핑 어노테이션
+import org.springframework.web.bind.annotation.RequestParam; // 쿼리 파라미터 추출 어노테이션
 import org.springframework.web.bind.annotation.RestController; // REST 컨트롤러 어노테이션
 
 import com.Trekkit_Java.DTO.QnaAnswerDTO; // Q&A 답변 데이터 전송 객체(DTO) 임포트
@@ -38,6 +39,9 @@ public class QnaController {
     @Autowired // JwtUtil을 자동으로 주입받습니다.
     private JwtUtil jwtUtil;
 
+    private static final int MAX_STATE_IDS = 100; // 좋아요 상태를 한 번에 조회할 수 있는 최대 질문 수
+    private static final int MAX_PAGE_SIZE = 100; // 질문 목록 한 페이지의 최대 크기
+
     /**
      * HTTP 요청(HttpServletRequest)에서 JWT 토큰을 추출하고 파싱하여 사용자 ID(int 타입)를 반환합니다.
      *
@@ -69,6 +73,37 @@ public class QnaController {
         return ResponseEntity.ok(questions); // HTTP 200 OK 상태 코드와 함께 질문 목록을 반환합니다.
     }
     
+    /**
+     * Q&A 질문 요약 목록을 필터링하여 커서 방식으로 한 페이지씩 조회합니다.
+     * `/questions-list`와 달리 본문(content)을 포함하지 않고, 요청한 개수만큼만 반환합니다.
+     *
+     * @param mountain 산 이름 필터 (선택 사항).
+     * @param solved 해결 여부 필터 (선택 사항, true/false).
+     * @param sort 정렬 기준 (`latest` 최신순(기본값), `likes` 좋아요순, `answers` 답변순).
+     * @param cursor 이전 응답의 `nextCursor` 값 (선택 사항, 없으면 첫 페이지).
+     * @param size 한 페이지당 질문 개수 (기본값: 20, 최대 100).
+     * @return 질문 요약 목록(`questions`), 다음 페이지 커서(`nextCursor`), 다음 페이지 존재 여부(`hasNext`)를 포함하는 Map과 함께 HTTP 200 OK 응답을 반환합니다.
+     *         커서가 잘못된 경우 HTTP 400 Bad Request 응답을 반환합니다.
+     */
+    @GetMapping("/questions") // GET 요청을 "/api/qna/questions" 경로로 매핑합니다.
+    public ResponseEntity<Map<String, Object>> getQuestionPage(
+            @RequestParam(name = "mountain", required = false) String mountain,
+            @RequestParam(name = "solved", required = false) Boolean solved,
+            @RequestParam(name = "sort", defaultValue = "latest") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            // 페이지 크기가 허용 범위를 벗어나면 HTTP 400 Bad Request 응답을 반환합니다.
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다."));
+        }
+        try {
+            return ResponseEntity.ok(qnaService.getQuestionPage(mountain, solved, sort, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // 커서 형식이 잘못되었거나 정렬 기준이 다르면 HTTP 400 Bad Request 응답을 반환합니다.
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 특정 ID를 가진 Q&A 질문의 상세 정보를 조회합니다.
      * 이 API는 프론트엔드 호환성을 위해 POST 메서드를 사용하며, 요청 본문은 선택 사항입니다.
@@ -462,6 +497,35 @@ public class QnaController {
         }
     }
 
+    /**
+     * 여러 질문 중 현재 사용자가 좋아요를 누른 질문 ID 목록을 한 번에 조회합니다.
+     * 질문 목록 화면에서 질문마다 like-status를 따로 요청하지 않도록(N+1 방지) 사용됩니다.
+     *
+     * @param ids 좋아요 상태를 조회할 질문 ID 목록 (예: `?ids=1,2,3`, 최대 100개).
+     * @param request 현재 HTTP 요청 객체 (JWT 토큰 추출용).
+     * @return 좋아요를 누른 질문 ID 목록과 함께 HTTP 200 OK 응답을 반환합니다.
+     */
+    @GetMapping("/questions/like-states") // GET 요청을 "/api/qna/questions/like-states" 경로로 매핑합니다.
+    public ResponseEntity<List<Long>> getLikedQuestionIds(@RequestParam("ids") List<Long> ids, HttpServletRequest request) {
+        try {
+            int userId = getUserIdFromRequest(request); // JWT 토큰에서 사용자 ID를 추출합니다.
+            if (ids.size() > MAX_STATE_IDS) {
+                // 한 번에 조회할 수 있는 질문 수를 넘으면 HTTP 400 Bad Request 응답을 반환합니다.
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+            if (ids.isEmpty()) {
+                return ResponseEntity.ok(List.of());
+            }
+            return ResponseEntity.ok(qnaService.getLikedQuestionIds(userId, ids)); // 좋아요를 누른 질문 ID 목록 반환
+        } catch (IllegalArgumentException e) {
+            // JWT 토큰이 없거나 유효하지 않은 경우 HTTP 401 Unauthorized 응답을 반환합니다.
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        } catch (Exception e) {
+            // 좋아요 상태 조회 중 기타 예외 발생 시 서버 내부 오류 응답을 반환합니다.
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 특정 답변에 대한 좋아요를 토글(추가/취소)합니다.
      * JWT 토큰에서 사용자 ID를 추출하여 좋아요를 처리합니다.
@@ -1,8 +1,6 @@
 package com.Trekkit_Java.Controller;
 
-import java.io.File;
 import java.util.Map;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.Trekkit_Java.Service.ImagePipeline;
 import com.Trekkit_Java.Service.MailService;
 import com.Trekkit_Java.Service.SignupService;
 import com.Trekkit_Java.Util.Validate;
@@ -25,6 +24,7 @@ public class SignupController {
 	
 	@Autowired private SignupService ss;
 	@Autowired private MailService ms;
+	@Autowired private ImagePipeline imagePipeline;
 	
 	@PostMapping("/dosignup")
 	public ResponseEntity<Boolean> doSignup(
@@ -54,24 +54,12 @@ public class SignupController {
 	        
 	        String imageUrl = null;
 	        if (profileImage != null && !profileImage.isEmpty()) {
-
-	        	// 파일 저장 경로
-	            String saveDir = System.getProperty("user.dir") + "/uploads/profile/";
-	            
-	            // 파일 이름 + 풀경로
-	            String fileName = UUID.randomUUID().toString() + "_" + profileImage.getOriginalFilename();
-	            String fullPath = saveDir + fileName;
-	            
-	            // 폴더 없으면 생성
-	            File dir = new File(saveDir);
-	            if (!dir.exists()) dir.mkdirs();
-
-	            // 실제 파일 저장
-	            profileImage.transferTo(new File(fullPath));
-	            
-	            // DB에 저장할 경로
-	            imageUrl = "/profile/" + fileName;
-	            
+	            // 정사각형으로 줄여서 저장 (메타데이터 제거), DB에는 /profile/... 경로 저장
+	            try {
+	                imageUrl = imagePipeline.storeProfileImage(profileImage);
+	            } catch (IllegalArgumentException e) {
+	                return ResponseEntity.badRequest().body(false); // 이미지가 아니거나 너무 큰 파일
+	            }
 	        }
 
 	        // 회원가입 처리
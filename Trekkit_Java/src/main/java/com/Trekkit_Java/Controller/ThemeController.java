@@ -1,17 +1,25 @@
 package com.Trekkit_Java.Controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.Trekkit_Java.DAO.ThemeDAO;
+import com.Trekkit_Java.DTO.OnlyTheme;
 import com.Trekkit_Java.DTO.Theme;
+import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.Service.ThemeCatalog;
 import com.Trekkit_Java.Service.ThemeService;
+import com.Trekkit_Java.Service.UserCache;
+import com.Trekkit_Java.Util.ExtractToken;
+import com.Trekkit_Java.Util.JwtUtil;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -20,18 +28,20 @@ import jakarta.servlet.http.HttpServletRequest;
 public class ThemeController {
 	
 	@Autowired private ThemeService themeService;
-	@Autowired private ThemeDAO td;
+	@Autowired private JwtUtil jwtUtil;
+	@Autowired private UserCache userCache;
 
+	// 테마 상세 (If-None-Match가 현재 ETag와 같으면 304)
 	@PostMapping("/detail")
-	public ResponseEntity<Theme> getThemeDetail(@RequestBody Map<String, String> body) {
+	public ResponseEntity<Theme> getThemeDetail(@RequestBody Map<String, String> body, HttpServletRequest request) {
 	    String name = body.get("name");
 	    if (name == null || name.trim().isEmpty()) {
 	        return ResponseEntity.badRequest().build();
 	    }
 
-	    Theme dto = themeService.getThemeDetail(name);
-	    if (dto == null) return ResponseEntity.notFound().build();
-	    return ResponseEntity.ok(dto);
+	    ThemeCatalog.Entry<Theme> entry = themeService.getThemeDetail(name);
+	    if (entry == null) return ResponseEntity.notFound().build();
+	    return withETag(request, entry);
 	}
 	
 	@PostMapping("/getall")
@@ -44,7 +54,31 @@ public class ThemeController {
 	        return ResponseEntity.status(400).body(Map.of("error", "Invalid client type"));
 	    }
 
-	    return ResponseEntity.ok(td.getThemes());
+	    ThemeCatalog.Entry<List<OnlyTheme>> entry = themeService.getThemes();
+	    return withETag(request, entry);
+	}
+
+	// 테마 스냅샷 다시 읽기 (관리자만)
+	@PostMapping("/refresh")
+	public ResponseEntity<?> refresh(HttpServletRequest request) {
+		String token = ExtractToken.extractToken(request);
+		if (token == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
+		}
+		User user = userCache.get(jwtUtil.extractUserId(token));
+		if (user == null || !"ADMIN".equalsIgnoreCase(user.getUsertype())) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자 권한이 없습니다."));
+		}
+		themeService.refresh();
+		return ResponseEntity.ok(Map.of("message", "테마 정보를 다시 불러왔습니다."));
+	}
+
+	private static <T> ResponseEntity<T> withETag(HttpServletRequest request, ThemeCatalog.Entry<T> entry) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch != null && (ifNoneMatch.equals(entry.etag()) || ifNoneMatch.equals("W/" + entry.etag()))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+		}
+		return ResponseEntity.ok().eTag(entry.etag()).body(entry.body());
 	}
 
 }
@@ -1,46 +1,80 @@
 package com.Trekkit_Java.Controller;
 
-import org.springframework.beans.factory.annotation.Value;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+
+import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.Service.TrailStore;
+import com.Trekkit_Java.Service.UserCache;
+import com.Trekkit_Java.Service.VworldTileCache;
+import com.Trekkit_Java.Util.ExtractToken;
+import com.Trekkit_Java.Util.JwtUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 public class VworldController {
 
-	@Value("${vworld.api.key}")
-	private String VWORLD_API_KEY;
+	@Autowired
+	private VworldTileCache vworldTileCache;
+
+	@Autowired
+	private TrailStore trailStore;
+
+	@Autowired
+	private JwtUtil jwtUtil;
 
+	@Autowired
+	private UserCache userCache;
+
+	// 로컬 등산로 파일이 있으면 거기서 조회 (zoom에 맞춰 단순화, 없으면 범위 크기로 추정)
+	// 없으면 범위를 타일로 나눠서 캐시된 등산로를 합쳐 반환 (없는 타일만 브이월드 호출)
 	@GetMapping("/hiking-course")
 	public ResponseEntity<String> getHikingCourse(
 	    @RequestParam("minLat") double minLat,
 	    @RequestParam("minLng") double minLng,
 	    @RequestParam("maxLat") double maxLat,
-	    @RequestParam("maxLng") double maxLng
+	    @RequestParam("maxLng") double maxLng,
+	    @RequestParam(value = "zoom", required = false) Integer zoom
 	) {
-	    String url = "https://api.vworld.kr/req/data" +
-	        "?service=data" +
-	        "&version=2.0" +
-	        "&request=GetFeature" +
-	        "&format=json" +
-	        "&key=" + VWORLD_API_KEY +
-	        "&domain=localhost" +
-	        "&data=LT_L_FRSTCLIMB" +
-	        "&geomFilter=BOX(" + minLng + "," + minLat + "," + maxLng + "," + maxLat + ")" +  // ← 변경됨
-	        "&size=100" +
-	        "&crs=EPSG:4326";
-
+	    boolean local = trailStore.isAvailable(); // 로컬 등산로 파일이 있으면 브이월드를 호출하지 않음
 	    try {
-	        RestTemplate restTemplate = new RestTemplate();
-	        String result = restTemplate.getForObject(url, String.class);
-	        return ResponseEntity.ok(result);
+	        String result = local
+	            ? trailStore.getTrails(minLat, minLng, maxLat, maxLng, zoom)
+	            : vworldTileCache.getTrails(minLat, minLng, maxLat, maxLng);
+	        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
+	    } catch (IllegalArgumentException e) {
+	        return ResponseEntity.badRequest().body(e.getMessage());
 	    } catch (Exception e) {
 	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-	            .body("브이월드 호출 실패: " + e.getMessage());
+	            .body((local ? "등산로 조회 실패: " : "브이월드 호출 실패: ") + e.getMessage());
 	    }
 	}
-}
\ No newline at end of file
+
+	// 로컬 등산로 파일 다시 읽기 (TrailImporter로 새 파일을 만든 뒤, 관리자만)
+	@PostMapping("/hiking-course/refresh")
+	public ResponseEntity<?> refresh(HttpServletRequest request) {
+		String token = ExtractToken.extractToken(request);
+		if (token == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
+		}
+		User user = userCache.get(jwtUtil.extractUserId(token));
+		if (user == null || !"ADMIN".equalsIgnoreCase(user.getUsertype())) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자 권한이 없습니다."));
+		}
+		try {
+			trailStore.reload();
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "등산로 파일 로딩 실패: " + e.getMessage()));
+		}
+		return ResponseEntity.ok(Map.of("message", "등산로 파일을 다시 불러왔습니다.", "available", trailStore.isAvailable()));
+	}
+}
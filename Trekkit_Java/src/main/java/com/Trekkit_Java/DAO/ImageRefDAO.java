@@ -0,0 +1,17 @@
+package com.Trekkit_Java.DAO;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ImageRefDAO {
+
+	// 이미지 경로를 참조하는 게시글 이미지 + 프로필 수
+	int countReferences(@Param("path") String path);
+
+	// 참조 중인 모든 이미지 경로 (게시글 이미지 + 프로필, UploadSweeper용)
+	List<String> findAllReferencedPaths();
+
+}
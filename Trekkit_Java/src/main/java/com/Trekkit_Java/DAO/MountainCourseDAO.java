@@ -1,5 +1,7 @@
 package com.Trekkit_Java.DAO;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -11,4 +13,6 @@ public interface MountainCourseDAO {
 		    @Param("name") String name,
 		    @Param("location") String location
 	);
+
+	List<MountainCourse> findAllWithCoordinates(); // MountainSpatialIndex 로딩용
 }
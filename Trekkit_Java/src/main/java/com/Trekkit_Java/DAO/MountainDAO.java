@@ -4,18 +4,20 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.Trekkit_Java.Model.Mountain;
 
 @Mapper
 public interface MountainDAO {
 	 void insertMountain(Mountain mountain);
+	 void upsertMountains(@Param("mountains") List<Mountain> mountains); // 여러 행 한 번에 INSERT ... ON DUPLICATE KEY UPDATE
 	 
-	 	List<Mountain> filteredMountains(Map<String, Object> params);
 	    List<Mountain> selectAll(Map<String, Object> params);
+	    List<Mountain> selectAllForIndex(); // MountainCatalogIndex 로딩용 (전체)
+	    List<Map<String, Object>> countPostsByMountain(); // 산 이름별 게시글 수 (자동완성 인기순)
 	    Mountain selectByListNo(int mntilistno);
 	    List<Mountain> searchByName(String name);
 	    int countAll();
 	    int countByLocation(String location);
-		int countByCondition(Map<String, Object> params);
 }
@@ -9,4 +9,5 @@ import com.Trekkit_Java.DTO.MountainImageDTO;
 @Mapper
 public interface MountainImageDAO {
 	List<MountainImageDTO> findByRegion(String region);
+	List<MountainImageDTO> findAllWithCoordinates(); // MountainSpatialIndex 로딩용
 }
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper; // MyBatis의 Mapper 어노테이
 import org.apache.ibatis.annotations.Param; // MyBatis의 @Param 어노테이션 임포트 (SQL 쿼리 파라미터 매핑)
 
 import java.util.List; // List 인터페이스 사용을 위한 임포트
+import java.util.Map; // Map 인터페이스 사용을 위한 임포트
 
 /**
  * 공지사항 관련 데이터베이스 작업을 위한 MyBatis Mapper 인터페이스입니다.
@@ -57,11 +58,12 @@ public interface NoticeDAO {
     NoticeDTO selectNoticeById(@Param("id") int id);
 
     /**
-     * 특정 ID를 가진 공지사항의 조회수를 1 증가시킵니다.
+     * 여러 공지사항의 조회수 증가분을 한 번의 UPDATE로 반영합니다.
+     * ViewCountBuffer가 모아 둔 증가분을 주기적으로 반영할 때 사용됩니다.
      *
-     * @param id 조회수를 증가시킬 공지사항의 고유 ID.
+     * @param deltas 공지사항 ID -> 더할 조회수.
      */
-    void increaseViewCount(@Param("id") int id);
+    void addViewCounts(@Param("deltas") Map<Long, Long> deltas);
     
     /**
      * 새로운 공지사항을 데이터베이스에 삽입합니다.
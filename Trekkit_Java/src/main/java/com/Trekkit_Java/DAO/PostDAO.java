@@ -1,10 +1,12 @@
 package com.Trekkit_Java.DAO;
 
 import com.Trekkit_Java.DTO.PostDTO; // Post 데이터 전송 객체 (DTO) 임포트
+import com.Trekkit_Java.DTO.PostImageDTO; // 게시글 이미지 데이터 전송 객체 (DTO) 임포트
 import org.apache.ibatis.annotations.Mapper; // MyBatis 매퍼 인터페이스임을 나타내는 어노테이션
 import org.apache.ibatis.annotations.Param; // MyBatis 쿼리에 여러 파라미터를 전달할 때 사용되는 어노테이션
 import org.apache.ibatis.annotations.Select; // MyBatis의 @Select 어노테이션 (간단한 SQL 쿼리 인라인 정의)
 
+import java.util.Collection; // Collection 사용을 위해 임포트
 import java.util.List; // List(컬렉션) 사용을 위해 임포트
 import java.util.Map; // Map 사용을 위해 임포트
 
@@ -59,17 +61,19 @@ public interface PostDAO {
     int delete(@Param("postId") Long postId);
 
     /**
-     * 특정 게시글의 조회수를 1 증가시킵니다.
-     * @param postId 조회수를 증가시킬 게시글의 ID.
+     * 여러 게시글의 조회수 증가분을 한 번의 UPDATE로 반영합니다.
+     * ViewCountBuffer가 모아 둔 증가분을 주기적으로 반영할 때 사용됩니다.
+     * @param deltas 게시글 ID -> 더할 조회수.
      */
-    void increaseViewCount(@Param("postId") Long postId);
+    void addViewCounts(@Param("deltas") Map<Long, Long> deltas);
 
     /**
-     * 게시글에 첨부된 이미지 경로를 저장합니다.
+     * 게시글에 첨부된 이미지 경로들을 한 번의 INSERT(여러 행)로 저장합니다.
+     * 목록 순서대로 저장되므로, 이미지 ID 순으로 조회하면 같은 순서가 됩니다.
      * @param postId 이미지가 속한 게시글의 ID.
-     * @param imagePath 저장할 이미지의 파일 경로.
+     * @param imagePaths 저장할 이미지 파일 경로 목록 (비어있으면 안 됨).
      */
-    void saveImage(@Param("postId") Long postId, @Param("imagePath") String imagePath);
+    void saveImages(@Param("postId") Long postId, @Param("imagePaths") List<String> imagePaths);
 
     /**
      * 특정 게시글에 첨부된 모든 이미지 경로를 조회합니다.
@@ -78,6 +82,15 @@ public interface PostDAO {
      */
     List<String> findImagesByPostId(@Param("postId") Long postId);
 
+    /**
+     * 여러 게시글에 첨부된 이미지를 한 번의 쿼리로 조회합니다.
+     * 게시글 목록 조회 시 게시글마다 이미지를 따로 조회하지 않도록(N+1 방지) 사용됩니다.
+     * 결과는 게시글 ID, 이미지 ID 오름차순으로 정렬됩니다.
+     * @param postIds 이미지를 조회할 게시글 ID 목록 (비어있으면 안 됨).
+     * @return 이미지 목록 (List<PostImageDTO>).
+     */
+    List<PostImageDTO> findImagesByPostIds(@Param("postIds") List<Long> postIds);
+
     /**
      * 특정 게시글에 첨부된 모든 이미지를 삭제합니다.
      * 게시글 삭제 시 관련 이미지도 함께 삭제할 때 사용됩니다.
@@ -85,19 +98,39 @@ public interface PostDAO {
      */
     void deleteImagesByPostId(@Param("postId") Long postId);
 
+    /**
+     * 지정한 이미지들을 한 번의 DELETE로 삭제합니다.
+     * 게시글 수정 시 빠진 이미지만 지울 때 사용됩니다.
+     * @param postId 이미지가 속한 게시글의 ID (다른 게시글의 이미지는 지우지 않도록 함께 확인).
+     * @param ids 삭제할 이미지 ID 목록 (비어있으면 안 됨).
+     */
+    void deleteImagesByIds(@Param("postId") Long postId, @Param("ids") List<Long> ids);
+
+    /**
+     * 게시글 행을 트랜잭션이 끝날 때까지 잠급니다. (SELECT ... FOR UPDATE)
+     * 같은 게시글에 대한 좋아요 토글을 한 줄로 세우고, 그 사이에 게시글이 삭제되지 않도록 합니다.
+     * @param postId 잠글 게시글의 ID.
+     * @return 게시글이 있으면 1, 없으면 0.
+     */
+    int lockPost(@Param("postId") Long postId);
+
     /**
      * 특정 게시글에 대한 좋아요 정보를 삽입합니다.
+     * (post_id, user_id) 유니크 키에 걸리는 중복 좋아요는 아무것도 바꾸지 않습니다. (ON DUPLICATE KEY UPDATE)
+     * INSERT IGNORE와 달리 없는 게시글(외래 키 위반) 등 다른 오류는 그대로 예외가 됩니다.
      * @param postId 좋아요를 누른 게시글의 ID.
      * @param userId 좋아요를 누른 사용자의 ID.
+     * @return 삽입된 레코드의 수 (이미 좋아요가 있으면 0).
      */
-    void addLike(@Param("postId") Long postId, @Param("userId") Long userId);
+    int addLike(@Param("postId") Long postId, @Param("userId") Long userId);
 
     /**
      * 특정 게시글에 대한 특정 사용자의 좋아요 정보를 삭제합니다. (좋아요 취소)
      * @param postId 좋아요를 취소할 게시글의 ID.
      * @param userId 좋아요를 취소할 사용자의 ID.
+     * @return 삭제된 레코드의 수 (좋아요가 없었으면 0).
      */
-    void deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
 
     /**
      * 특정 게시글에 대한 특정 사용자의 좋아요 존재 여부를 조회합니다.
@@ -114,6 +147,14 @@ public interface PostDAO {
      */
     void updateLikeCount(@Param("postId") Long postId);
 
+    /**
+     * 특정 게시글의 좋아요 수에 증감분을 더합니다. (+1 / -1)
+     * 좋아요 테이블을 다시 세지 않고 posts 행 하나만 원자적으로 갱신하므로 좋아요 수와 무관하게 일정한 비용이 듭니다.
+     * @param postId 좋아요 수를 갱신할 게시글의 ID.
+     * @param delta 더할 값 (좋아요 추가 시 1, 취소 시 -1).
+     */
+    void addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
     /**
      * 특정 게시글의 댓글 수를 갱신합니다.
      * 이 메서드는 댓글 추가/삭제 시 댓글 테이블의 카운트를 기반으로 Post 테이블의 commentCount를 업데이트합니다.
@@ -153,6 +194,15 @@ public interface PostDAO {
      */
     int findBookmarkByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
 
+    /**
+     * 여러 게시글에 대한 특정 사용자의 좋아요/북마크 여부를 한 번의 쿼리로 조회합니다.
+     * 좋아요한 게시글은 flag = 1, 북마크한 게시글은 flag = 2인 행으로 반환됩니다. (둘 다면 두 행)
+     * @param userId 조회할 사용자의 ID.
+     * @param postIds 조회할 게시글 ID 목록 (비어있으면 안 됨).
+     * @return postId, flag 키를 가진 Map 목록.
+     */
+    List<Map<String, Object>> findUserStates(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
     /**
      * 데이터베이스에 저장된 모든 산 이름을 조회합니다.
      * 산 이름은 오름차순으로 정렬됩니다.
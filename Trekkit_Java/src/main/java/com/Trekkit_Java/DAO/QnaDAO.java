@@ -1,12 +1,15 @@
 package com.Trekkit_Java.DAO;
 
 import com.Trekkit_Java.DTO.QnaQuestionDTO; // Q&A 질문 DTO 임포트
+import com.Trekkit_Java.DTO.QnaQuestionSummaryDTO; // Q&A 질문 요약 DTO 임포트
 import com.Trekkit_Java.DTO.QnaAnswerDTO; // Q&A 답변 DTO 임포트
 import com.Trekkit_Java.DTO.QnaLikeDTO; // Q&A 좋아요 DTO 임포트
 import org.apache.ibatis.annotations.Mapper; // MyBatis 매퍼 인터페이스임을 나타내는 어노테이션
 import org.apache.ibatis.annotations.Param; // MyBatis 쿼리에 여러 파라미터를 전달할 때 사용되는 어노테이션
 
+import java.util.Collection; // Collection 사용을 위해 임포트
 import java.util.List; // List(컬렉션) 사용을 위해 임포트
+import java.util.Map; // Map 사용을 위해 임포트
 
 /**
  * Q&A(질문 및 답변) 관련 데이터베이스 작업을 위한 MyBatis Mapper 인터페이스입니다.
@@ -22,6 +25,15 @@ public interface QnaDAO {
      * @return 질문 목록 (List<QnaQuestionDTO>)
      */
     List<QnaQuestionDTO> getAllQuestions();
+
+    /**
+     * Q&A 질문 요약 목록을 필터링하고 키셋(커서) 방식으로 페이지 단위 조회합니다. 본문(content)은 포함하지 않습니다.
+     * 조건은 Map으로 전달됩니다: mountain, solved(Boolean), sort("latest", "likes", "answers"), limit,
+     * 그리고 커서가 있을 경우 cursorCount(좋아요/답변 수), cursorCreatedAt, cursorId.
+     * @param params 필터, 정렬, 커서, 조회 개수를 포함하는 Map
+     * @return 질문 요약 목록 (List<QnaQuestionSummaryDTO>)
+     */
+    List<QnaQuestionSummaryDTO> getQuestionSummaries(Map<String, Object> params);
     
     /**
      * 질문 ID를 사용하여 특정 Q&A 질문의 상세 정보를 조회합니다.
@@ -50,10 +62,11 @@ public interface QnaDAO {
     void deleteQuestion(int id);
     
     /**
-     * 특정 질문의 조회수를 1 증가시킵니다.
-     * @param id 조회수를 증가시킬 질문의 ID
+     * 여러 질문의 조회수 증가분을 한 번의 UPDATE로 반영합니다.
+     * ViewCountBuffer가 모아 둔 증가분을 주기적으로 반영할 때 사용됩니다.
+     * @param deltas 질문 ID -> 더할 조회수
      */
-    void incrementQuestionViewCount(int id);
+    void addQuestionViewCounts(@Param("deltas") Map<Long, Long> deltas);
     
     /**
      * 특정 질문의 답변 수를 1 증가시킵니다.
@@ -148,6 +161,14 @@ public interface QnaDAO {
      * @return 좋아요 정보 DTO (QnaLikeDTO, 존재하면 DTO 객체, 없으면 null)
      */
     QnaLikeDTO checkQuestionLikeStatus(@Param("questionId") int questionId, @Param("userId") int userId);
+
+    /**
+     * 여러 질문 중 특정 사용자가 좋아요를 누른 질문 ID만 한 번의 쿼리로 조회합니다.
+     * @param userId 좋아요 상태를 확인할 사용자의 ID
+     * @param questionIds 확인할 질문 ID 목록 (비어있으면 안 됨)
+     * @return 좋아요를 누른 질문 ID 목록
+     */
+    List<Long> findLikedQuestionIds(@Param("userId") int userId, @Param("questionIds") Collection<Long> questionIds);
     
     /**
      * 특정 Q&A 질문의 좋아요 수를 1 증가시킵니다.
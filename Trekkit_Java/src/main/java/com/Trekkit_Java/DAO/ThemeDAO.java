@@ -3,7 +3,6 @@ package com.Trekkit_Java.DAO;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
 import com.Trekkit_Java.DTO.OnlyTheme;
@@ -12,6 +11,7 @@ import com.Trekkit_Java.DTO.Theme;
 @Mapper
 public interface ThemeDAO {
    
+	// 전체 테마 상세 (ThemeCatalog 로딩용, 시작할 때/갱신할 때 한 번만)
 	@Select("""
 	        SELECT 
 	            t.id AS theme_id,
@@ -66,9 +66,9 @@ public interface ThemeDAO {
 	        LEFT JOIN course c2 ON m2.course_id = c2.id
 	        LEFT JOIN mountain_theme m3 ON t.mountain3 = m3.id
 	        LEFT JOIN course c3 ON m3.course_id = c3.id
-	        WHERE t.name = #{themeName}
+	        ORDER BY t.id
 	    """)
-	Theme getThemeDetailByName(@Param("themeName") String themeName);
+	List<Theme> getAllThemeDetails();
    
    @Select("""
           SELECT 
@@ -0,0 +1,18 @@
+package com.Trekkit_Java.DTO;
+
+import java.util.List;
+
+import com.Trekkit_Java.Model.Mountain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// /mountains/list 응답 (목록 + 페이지 정보)
+@Data
+@AllArgsConstructor
+public class MountainListResponse {
+    private List<Mountain> mountains;
+    private int totalPages;
+    private int currentPage;
+    private int totalCount;
+}
@@ -0,0 +1,17 @@
+package com.Trekkit_Java.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 지도용 산 좌표 (mountain_image, mountain_course 공통)
+@Data
+@AllArgsConstructor
+public class MountainPointDTO {
+    private String source; // "image" 또는 "course"
+    private Long id; // mountain_image.id (course는 null)
+    private String name;
+    private String location;
+    private double latitude;
+    private double longitude;
+    private Double distanceKm; // 주변 검색일 때만 (기준점에서의 거리)
+}
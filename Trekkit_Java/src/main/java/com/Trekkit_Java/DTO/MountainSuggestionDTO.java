@@ -0,0 +1,14 @@
+package com.Trekkit_Java.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 자동완성 응답용 (mntidetails 같은 긴 필드는 빼고 목록에 필요한 것만)
+@Data
+@AllArgsConstructor
+public class MountainSuggestionDTO {
+    private String mntilistno;
+    private String mntiname;
+    private String mntiadd;
+    private double mntihigh;
+}
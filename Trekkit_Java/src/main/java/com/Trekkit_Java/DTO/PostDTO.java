@@ -23,5 +23,7 @@ public class PostDTO {
     private Timestamp createdAt; // 게시글 생성 일시
     private Timestamp updatedAt; // 게시글 수정 일시
     private List<String> imagePaths; // 게시글에 첨부된 이미지 경로 목록
+    private List<String> mediumPaths; // 이미지별 중간 크기 경로 (imagePaths와 같은 순서, 변형이 없는 예전 이미지는 원본 경로)
+    private List<String> thumbnailPaths; // 이미지별 썸네일 경로 (imagePaths와 같은 순서, 변형이 없는 예전 이미지는 원본 경로)
     private String userLoginId; // 게시글 작성자의 로그인 ID (사용자 ID 문자열, 조회용)
 }
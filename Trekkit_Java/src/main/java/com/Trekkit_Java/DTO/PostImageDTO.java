@@ -0,0 +1,15 @@
+package com.Trekkit_Java.DTO;
+
+import lombok.Data; // Lombok의 @Data 어노테이션 임포트
+
+/**
+ * 게시글 이미지(post_images 테이블)의 데이터 전송 객체(DTO)입니다.
+ * 여러 게시글의 이미지를 한 번의 쿼리로 조회한 뒤, 게시글 ID 기준으로 묶을 때 사용됩니다.
+ * Lombok의 @Data 어노테이션을 사용하여 Getter, Setter, toString, equals, hashCode 메서드가 자동으로 생성됩니다.
+ */
+@Data // Lombok: Getter, Setter, toString, equals, hashCode를 자동으로 생성합니다.
+public class PostImageDTO {
+    private Long id; // 이미지 ID (PRIMARY KEY)
+    private Long postId; // 이미지가 속한 게시글의 ID (Post 테이블 참조)
+    private String imagePath; // 이미지 파일 경로 (예: /uploads/abc-def.jpg)
+}
@@ -0,0 +1,23 @@
+package com.Trekkit_Java.DTO;
+
+import java.time.LocalDateTime; // Java 8의 날짜/시간 API인 LocalDateTime 사용
+import lombok.Data; // Lombok의 @Data 어노테이션 임포트
+
+/**
+ * Q&A 질문 목록에 표시할 요약 정보의 데이터 전송 객체(DTO)입니다.
+ * 목록 화면에는 본문(content)이 필요 없으므로, QnaQuestionDTO에서 본문과 수정 정보를 뺀 가벼운 형태로 전송합니다.
+ * Lombok의 @Data 어노테이션을 사용하여 Getter, Setter, toString, equals, hashCode 메서드가 자동으로 생성됩니다.
+ */
+@Data // Lombok: Getter, Setter, toString, equals, hashCode를 자동으로 생성합니다.
+public class QnaQuestionSummaryDTO {
+    private int id; // 질문 ID (PRIMARY KEY)
+    private int userId; // 작성자 ID (User 테이블 참조)
+    private String nickname; // 작성자 닉네임
+    private String title; // 질문 제목
+    private String mountain; // 관련 산 이름 (선택 사항)
+    private int viewCount; // 조회수
+    private int answerCount; // 답변 수
+    private int likeCount; // 좋아요 수
+    private boolean isSolved; // 해결 여부 (true/false)
+    private LocalDateTime createdAt; // 생성일시
+}
@@ -1,103 +1,141 @@
-//package com.Trekkit_Java.ExternalAPI;
-//
-//import java.io.BufferedReader;
-//import java.io.ByteArrayInputStream;
-//import java.io.InputStream;
-//import java.io.InputStreamReader;
-//import java.net.HttpURLConnection;
-//import java.net.URL;
-//import java.util.ArrayList;
-//import java.util.List;
-//
-//import javax.xml.parsers.DocumentBuilder;
-//import javax.xml.parsers.DocumentBuilderFactory;
-//
-//import org.w3c.dom.Document;
-//import org.w3c.dom.Element;
-//import org.w3c.dom.NodeList;
-//
-//import org.springframework.beans.factory.annotation.Value;
-//import org.springframework.stereotype.Component;
-////import org.w3c.dom.NodeList;
-//
-//import com.Trekkit_Java.DTO.MountainDTO;
-//import com.fasterxml.jackson.databind.JsonNode;
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//
-//@Component
-//public class MountainAPIClient {
-//	
-//	@Value("${openapi.service-key}")
-//	private String serviceKey;
-//
-//    public List<MountainDTO> callMountainAPI() {
-//        List<MountainDTO> mountains = new ArrayList<>();
-//        int page = 1;
-//        boolean hasMore = true;
-//
-//        try {
-//        	while (hasMore) {
-//        	String serviceKey = this.serviceKey;
-//        	String url = "https://apis.data.go.kr/1400000/service/cultureInfoService2/mntInfoOpenAPI2"
-//                    + "?serviceKey=" + serviceKey
-//                    + "&pageNo=" +page
-//                    + "&numOfRows=100"
-//                    + "&MobileOS=ETC"
-//                    + "&MobileApp=trekkit"
-//                    + "&_type=json";
-//        	
-//            URL apiUrl = new URL(url);
-//            HttpURLConnection conn = (HttpURLConnection) apiUrl.openConnection();
-//            conn.setRequestMethod("GET");
-//            
-//            BufferedReader rd = new BufferedReader(new InputStreamReader(conn.getInputStream(), "UTF-8"));
-//            StringBuilder sb = new StringBuilder();
-//            
-//            String line;
-//            while ((line = rd.readLine()) != null) {
-//                sb.append(line);
-//            }
-//
-//            rd.close();
-//            conn.disconnect();
-//            
-//            System.out.println("산림청 산정보 API 응답: " + sb.toString());
-//
-//            ObjectMapper mapper = new ObjectMapper();
-//            JsonNode root = mapper.readTree(sb.toString());
-//            JsonNode items = root.path("response").path("body").path("items").path("item");
-//            int totalCount = root.path("response").path("body").path("totalCount").asInt();
-//            int numOfRows = root.path("response").path("body").path("numOfRows").asInt();
-//
-//            if (items.isArray()) {
-//                for (JsonNode item : items) {
-//                    MountainDTO dto = new MountainDTO();
-//                    
-//                    dto.setName(item.path("mntiname").asText());
-//                    dto.setLocation(item.path("mntiadd").asText());
-//                    dto.setHeight(item.path("mntihigh").asDouble());
-//                    dto.setDetails(item.path("mntidetails").asText());
-//                    dto.setMntiListNo(item.path("mntilistno").asText());
-//                    String imageUrl = "/assets/images/" + dto.getName() + "/1.jpg";
-//                    dto.setImageUrl(imageUrl);
-//
-//                    mountains.add(dto);
-//                }
-//            }
-//
-//            int totalPages = (int) Math.ceil((double) totalCount / numOfRows);
-//            if (page >= totalPages) {
-//                hasMore = false;
-//            } else {
-//                page++;
-//            }
-//        }
-//        	
-//        } catch (Exception e) {
-//        	System.out.println("API 호출 중 예외 발생:");
-//            e.printStackTrace();
-//        }
-//
-//        return mountains;
-//    }
-//}
+package com.Trekkit_Java.ExternalAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Model.Mountain;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+// 산림청 산정보 공공데이터 API 클라이언트
+// 1페이지로 전체 개수를 알아낸 뒤 나머지 페이지는 최대 CONCURRENCY개씩 동시에 요청
+// 응답은 문자열로 모으지 않고 Jackson 스트리밍 파서로 바로 읽음
+
+@Component
+public class MountainAPIClient {
+
+	private static final int PAGE_SIZE = 100; // 페이지당 행 수
+	private static final int CONCURRENCY = 4; // 동시에 요청할 페이지 수
+	private static final JsonFactory JSON = new JsonFactory();
+
+	@Value("${openapi.service-key:}")
+	private String serviceKey;
+
+	@Value("${openapi.mountain-url:https://apis.data.go.kr/1400000/service/cultureInfoService2/mntInfoOpenAPI2}")
+	private String baseUrl;
+
+	@Autowired private OutboundHttpClient httpClient; // 공용 HTTP 클라이언트
+
+	// 한 페이지 결과
+	public record Page(int totalCount, List<Mountain> mountains) {}
+
+	public boolean isConfigured() {
+		return serviceKey != null && !serviceKey.isBlank();
+	}
+
+	// 전체 페이지 조회
+	public List<Mountain> fetchAll() throws IOException, InterruptedException {
+		Page first = fetchPage(1);
+		List<Mountain> mountains = new ArrayList<>(first.mountains());
+		int totalPages = (int) Math.ceil((double) first.totalCount() / PAGE_SIZE);
+		if (totalPages <= 1) {
+			return mountains;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(CONCURRENCY, totalPages - 1));
+		try {
+			List<Future<Page>> pages = new ArrayList<>();
+			for (int page = 2; page <= totalPages; page++) {
+				int pageNo = page;
+				pages.add(executor.submit(() -> fetchPage(pageNo)));
+			}
+			for (Future<Page> page : pages) {
+				mountains.addAll(page.get().mountains()); // 페이지 순서대로 합침
+			}
+		} catch (ExecutionException e) {
+			throw new IOException("산정보 API 페이지 조회 실패", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		return mountains;
+	}
+
+	public Page fetchPage(int page) throws IOException, InterruptedException {
+		String url = baseUrl
+				+ "?serviceKey=" + URLEncoder.encode(serviceKey, StandardCharsets.UTF_8)
+				+ "&pageNo=" + page
+				+ "&numOfRows=" + PAGE_SIZE
+				+ "&MobileOS=ETC"
+				+ "&MobileApp=trekkit"
+				+ "&_type=json";
+		return httpClient.get(url, (status, body) -> {
+			if (status != 200) {
+				throw new IOException("산정보 API 응답 코드 " + status + " (page " + page + ")");
+			}
+			return parse(body);
+		});
+	}
+
+	// response.body.totalCount 와 response.body.items.item (배열, 1건이면 객체) 만 읽고 나머지는 건너뜀
+	static Page parse(InputStream body) throws IOException {
+		int totalCount = 0;
+		List<Mountain> mountains = new ArrayList<>();
+		try (JsonParser parser = JSON.createParser(body)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token != JsonToken.FIELD_NAME) {
+					continue;
+				}
+				String field = parser.currentName();
+				token = parser.nextToken();
+				if ("totalCount".equals(field)) {
+					totalCount = parser.getValueAsInt();
+				} else if ("item".equals(field)) {
+					if (token == JsonToken.START_ARRAY) {
+						while (parser.nextToken() == JsonToken.START_OBJECT) {
+							mountains.add(readItem(parser));
+						}
+					} else if (token == JsonToken.START_OBJECT) {
+						mountains.add(readItem(parser));
+					}
+				}
+			}
+		}
+		return new Page(totalCount, mountains);
+	}
+
+	private static Mountain readItem(JsonParser parser) throws IOException {
+		Mountain mountain = new Mountain();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+				parser.skipChildren();
+				continue;
+			}
+			switch (field) {
+				case "mntilistno" -> mountain.setMntilistno(parser.getValueAsString());
+				case "mntiname" -> mountain.setMntiname(parser.getValueAsString());
+				case "mntiadd" -> mountain.setMntiadd(parser.getValueAsString());
+				case "mntihigh" -> mountain.setMntihigh(parser.getValueAsDouble());
+				case "mntidetails" -> mountain.setMntidetails(parser.getValueAsString());
+				default -> { }
+			}
+		}
+		mountain.setImageUrl("/assets/images/" + mountain.getMntiname() + "/1.jpg");
+		return mountain;
+	}
+}
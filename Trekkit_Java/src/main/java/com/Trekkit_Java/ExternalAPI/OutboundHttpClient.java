@@ -0,0 +1,192 @@
+package com.Trekkit_Java.ExternalAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// 외부 API 호출용 공용 HTTP 클라이언트
+// HttpClient 하나를 모든 외부 연동(공공데이터, 브이월드 등)이 같이 써서 커넥션(keep-alive)을 재사용함
+// HTTP/2를 지원하는 서버는 HTTP/2, 아니면 HTTP/1.1
+// 호스트별 동시 요청 수 제한, 호스트별 응답 시간/실패 수 지표
+// HttpRequest.timeout은 응답 헤더까지만 기다리므로, 본문은 요청 시작부터 read-timeout이 지나면 스트림을 닫아 끊음
+
+@Component
+public class OutboundHttpClient {
+
+	// 응답 본문을 읽는 함수 (읽는 동안은 동시 요청 슬롯을 잡고 있음)
+	@FunctionalInterface
+	public interface ResponseReader<T> {
+		T read(int status, InputStream body) throws IOException;
+	}
+
+	// 호스트별 지표
+	private static final class HostStats {
+		final LongAdder requests = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder totalMillis = new LongAdder();
+		final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+	}
+
+	// 본문 읽기 마감 (시간이 지나면 읽는 스레드를 깨우고 스트림을 닫음)
+	private static final class Deadline implements Runnable {
+		private final Thread reader;
+		private final InputStream body;
+		private boolean done;
+		private boolean expired;
+
+		Deadline(Thread reader, InputStream body) {
+			this.reader = reader;
+			this.body = body;
+		}
+
+		@Override
+		public synchronized void run() {
+			if (done) {
+				return;
+			}
+			expired = true;
+			reader.interrupt(); // 본문 스트림은 interrupt로 대기 중인 read가 IOException으로 끝남
+			try {
+				body.close();
+			} catch (IOException ignored) {
+			}
+		}
+
+		// 읽기가 끝났을 때 호출, 마감으로 끊긴 경우 interrupt 표시를 지우고 true
+		// (run과 같은 락 안에서 interrupt 하므로, 여기서 지우면 늦게 도착하는 interrupt가 없음)
+		synchronized boolean finish() {
+			done = true;
+			if (expired) {
+				Thread.interrupted();
+			}
+			return expired;
+		}
+	}
+
+	private final HttpClient httpClient;
+	private final Duration readTimeout;
+	private final int maxPerHost;
+
+	private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+	private final Map<String, HostStats> hostStats = new ConcurrentHashMap<>();
+	private final ScheduledThreadPoolExecutor deadlines;
+
+	public OutboundHttpClient(@Value("${http.client.connect-timeout-ms:5000}") long connectTimeoutMs,
+			@Value("${http.client.read-timeout-ms:30000}") long readTimeoutMs,
+			@Value("${http.client.max-per-host:8}") int maxPerHost) {
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+		this.readTimeout = Duration.ofMillis(readTimeoutMs);
+		this.maxPerHost = maxPerHost;
+		this.deadlines = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "http-deadline");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.deadlines.setRemoveOnCancelPolicy(true); // 정상 종료된 요청의 마감 작업은 바로 치움
+	}
+
+	// 본문 전체를 문자열로
+	public String getString(String url) throws IOException, InterruptedException {
+		return get(url, (status, body) -> {
+			String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+			if (status != 200) {
+				throw new IOException("HTTP " + status + " " + URI.create(url).getHost());
+			}
+			return text;
+		});
+	}
+
+	// 본문을 스트림으로 읽음 (큰 응답을 메모리에 모으지 않을 때)
+	public <T> T get(String url, ResponseReader<T> reader) throws IOException, InterruptedException {
+		URI uri = URI.create(url);
+		String host = uri.getHost();
+		Semaphore permits = hostPermits.computeIfAbsent(host, h -> new Semaphore(maxPerHost));
+		HostStats stats = hostStats.computeIfAbsent(host, h -> new HostStats());
+
+		if (!permits.tryAcquire(readTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+			stats.failures.increment();
+			throw new IOException("동시 요청이 많아 대기 시간을 초과했습니다: " + host);
+		}
+		long start = System.nanoTime();
+		boolean ok = false;
+		try {
+			HttpRequest request = HttpRequest.newBuilder(uri)
+					.timeout(readTimeout)
+					.GET()
+					.build();
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			try (InputStream body = response.body()) {
+				Deadline deadline = new Deadline(Thread.currentThread(), body);
+				long remaining = readTimeout.toNanos() - (System.nanoTime() - start);
+				ScheduledFuture<?> timer = deadlines.schedule(deadline, Math.max(0, remaining), TimeUnit.NANOSECONDS);
+				try {
+					T result = reader.read(response.statusCode(), body);
+					ok = true;
+					return result;
+				} catch (IOException | RuntimeException e) {
+					if (deadline.finish()) {
+						throw new IOException("응답 본문을 " + readTimeout.toMillis() + "ms 안에 받지 못했습니다: " + host, e);
+					}
+					throw e;
+				} finally {
+					timer.cancel(false);
+					deadline.finish();
+				}
+			}
+		} finally {
+			permits.release();
+			long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			stats.requests.increment();
+			stats.totalMillis.add(millis);
+			stats.maxMillis.accumulate(millis);
+			if (!ok) {
+				stats.failures.increment();
+			}
+		}
+	}
+
+	// 호스트별 요청 수, 실패 수, 평균/최대 응답 시간, 현재 사용 중인 동시 요청 수
+	public Map<String, Map<String, Object>> metrics() {
+		Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+		hostStats.forEach((host, stats) -> {
+			long requests = stats.requests.sum();
+			Map<String, Object> m = new LinkedHashMap<>();
+			m.put("requests", requests);
+			m.put("failures", stats.failures.sum());
+			m.put("avgMillis", requests == 0 ? 0 : stats.totalMillis.sum() / requests);
+			m.put("maxMillis", stats.maxMillis.get());
+			m.put("inFlight", maxPerHost - hostPermits.get(host).availablePermits());
+			metrics.put(host, m);
+		});
+		return metrics;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		deadlines.shutdownNow();
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.Trekkit_Java.ExternalAPI;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 브이월드 데이터 API 클라이언트 (공용 OutboundHttpClient 사용)
+@Component
+public class VworldClient implements VworldTrailSource {
+
+	@Value("${vworld.api.key}")
+	private String VWORLD_API_KEY;
+
+	@Autowired private OutboundHttpClient httpClient;
+
+	@Override
+	public String fetchTrails(double minLng, double minLat, double maxLng, double maxLat, int page) throws IOException {
+		String url = "https://api.vworld.kr/req/data" +
+		        "?service=data" +
+		        "&version=2.0" +
+		        "&request=GetFeature" +
+		        "&format=json" +
+		        "&key=" + VWORLD_API_KEY +
+		        "&domain=localhost" +
+		        "&data=LT_L_FRSTCLIMB" +
+		        "&geomFilter=BOX(" + minLng + "," + minLat + "," + maxLng + "," + maxLat + ")" +
+		        "&size=" + PAGE_SIZE +
+		        "&page=" + page +
+		        "&crs=EPSG:4326";
+		try {
+			return httpClient.getString(url);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("브이월드 호출 중단", e);
+		}
+	}
+
+}
@@ -0,0 +1,14 @@
+package com.Trekkit_Java.ExternalAPI;
+
+import java.io.IOException;
+
+// 브이월드 등산로(LT_L_FRSTCLIMB) 조회 (테스트에서는 가짜 구현으로 교체)
+public interface VworldTrailSource {
+
+	int PAGE_SIZE = 1000; // 한 페이지 최대 건수 (브이월드 GetFeature 최대값)
+
+	// 경위도 사각형 안의 등산로 중 page번째(1부터) 페이지를 브이월드 GetFeature 응답(JSON 문자열) 그대로 반환
+	// 응답의 response.page.total이 전체 페이지 수
+	String fetchTrails(double minLng, double minLat, double maxLng, double maxLat, int page) throws IOException;
+
+}
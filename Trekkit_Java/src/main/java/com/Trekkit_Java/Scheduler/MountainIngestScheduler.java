@@ -0,0 +1,29 @@
+package com.Trekkit_Java.Scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.ExternalAPI.MountainAPIClient;
+import com.Trekkit_Java.Service.MountainIngestService;
+
+@Component
+public class MountainIngestScheduler {
+	
+	@Autowired private MountainIngestService mountainIngestService;
+	@Autowired private MountainAPIClient mountainAPIClient;
+	
+	@Scheduled(cron = "${openapi.ingest-cron:0 0 4 * * MON}") // 기본: 매주 월요일 새벽 4시
+    public void ingestMountains() {
+		if (!mountainAPIClient.isConfigured()) {
+			return; // openapi.service-key가 없으면 실행하지 않음
+		}
+		try {
+			System.out.println("산정보 동기화 결과: " + mountainIngestService.ingest());
+		} catch (Exception e) {
+			System.out.println("산정보 동기화 중 예외 발생:");
+			e.printStackTrace();
+		}
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.Trekkit_Java.Scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Service.PostCountCache;
+
+@Component
+public class PostCountScheduler {
+	
+	@Autowired private PostCountCache postCountCache;
+	
+	@Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void reconcilePostCounts() {
+		postCountCache.reconcile(); // 캐시된 산별 게시글 수를 DB의 COUNT(*) 값으로 보정
+    }
+
+}
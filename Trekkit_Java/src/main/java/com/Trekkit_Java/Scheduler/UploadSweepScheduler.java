@@ -0,0 +1,27 @@
+package com.Trekkit_Java.Scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Service.UploadSweeper;
+
+@Component
+public class UploadSweepScheduler {
+	
+	@Autowired private UploadSweeper uploadSweeper;
+	
+	@Scheduled(fixedDelayString = "${uploads.sweep-delay-ms:60000}", initialDelay = 300000) // 1분마다 조금씩 (시작 5분 뒤부터)
+    public void sweepOrphanedUploads() {
+		try {
+			UploadSweeper.Batch batch = uploadSweeper.sweep();
+			if (batch.deleted() > 0) {
+				System.out.println("업로드 정리: " + batch.scanned() + "개 확인, " + batch.deleted() + "개 삭제");
+			}
+		} catch (Exception e) {
+			System.out.println("업로드 정리 중 예외 발생:");
+			e.printStackTrace();
+		}
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.Trekkit_Java.Scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Service.ViewCountBuffer;
+
+@Component
+public class ViewCountScheduler {
+	
+	@Autowired private ViewCountBuffer viewCountBuffer;
+	
+	@Scheduled(fixedDelay = 10000) // 이전 반영이 끝나고 10초마다 실행
+    public void flushViewCounts() {
+		viewCountBuffer.flush(); // 모아 둔 조회수 증가분을 게시글/질문/공지사항별로 한 번씩 UPDATE
+    }
+
+}
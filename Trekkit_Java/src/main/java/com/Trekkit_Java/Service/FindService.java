@@ -14,6 +14,7 @@ import com.Trekkit_Java.DAO.FindDAO;
 public class FindService {
 
     @Autowired private FindDAO fd;
+    @Autowired private UserCache userCache;
 
     @Transactional(readOnly = true)
     public Map<String, Object> findIdByEmail(String email) {
@@ -50,7 +51,11 @@ public class FindService {
     public boolean updatePassword(String userid, String newPassword) {
     	BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12); // cost값(반복횟수)
     	String hashedPw = encoder.encode(newPassword); 
-        return fd.updatePassword(userid, hashedPw) > 0;
+        boolean updated = fd.updatePassword(userid, hashedPw) > 0;
+        if (updated) {
+        	userCache.invalidateByUserid(userid);
+        }
+        return updated;
     }
 
     @Transactional(readOnly = true)
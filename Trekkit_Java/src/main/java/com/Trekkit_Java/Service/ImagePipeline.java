@@ -0,0 +1,568 @@
+package com.Trekkit_Java.Service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.Trekkit_Java.DAO.ImageRefDAO;
+import com.Trekkit_Java.Util.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+// 업로드 이미지 처리
+// 업로드된 파일(멀티파트 임시 파일)을 스트림으로 읽어 디코딩하고, 여러 장이면 동시에 처리
+// 게시글 이미지는 원본(긴 변 LARGE_EDGE) / 중간(MEDIUM_EDGE) / 썸네일(THUMB_EDGE 정사각형) 3가지를 JPEG로 저장
+// JPEG로 다시 인코딩하므로 EXIF(위치 정보 등) 메타데이터는 남지 않음, 회전 정보만 읽어서 픽셀에 반영
+// DB 작업이 없으므로 트랜잭션 밖에서 호출
+// 파일 이름은 업로드 내용의 SHA-256 (앞 2글자로 하위 폴더 분산), 같은 사진을 다시 올리면 처리 없이 기존 파일을 씀
+// 내용이 같으면 경로도 같으므로 파일은 바뀌지 않음 (immutable 캐시 가능)
+// 게시글 이미지/프로필이 빠질 때 release() -> 참조(post_images, user.profile)가 하나도 없으면 삭제
+// 같은 파일의 재사용 확인/생성/삭제는 URL별 잠금 안에서 처리 (확인과 삭제 사이에 다른 요청이 재사용하지 못하도록)
+
+@Component
+public class ImagePipeline {
+
+	public static final String POST_IMAGE_URL = "/uploads/img/"; // 이 경로 아래 이미지는 중간/썸네일이 있음
+	private static final String MEDIUM_SUFFIX = "_m.jpg";
+	private static final String THUMB_SUFFIX = "_t.jpg";
+
+	private static final int LARGE_EDGE = 1920;
+	private static final int MEDIUM_EDGE = 800;
+	private static final int THUMB_EDGE = 320;
+	private static final int PROFILE_EDGE = 256;
+	private static final float JPEG_QUALITY = 0.85f;
+	private static final long MAX_PIXELS = 50_000_000L; // 디코딩 전에 거르는 최대 픽셀 수 (작은 파일이 큰 크기를 선언하는 경우)
+	private static final long RELEASE_GRACE_MILLIS = 1000L * 60 * 60; // 최근에 올라온(아직 글에 붙기 전일 수 있는) 파일은 지우지 않음
+
+	// 내용 주소 경로 (예: /uploads/img/ab/ab12...ef.jpg, /profile/ab/ab12...ef.jpg)
+	private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^(/uploads/img/|/profile/)([0-9a-f]{2})/\\2[0-9a-f]{62}\\.jpg$");
+
+	private static final int LOCK_STRIPES = 64;
+
+	static {
+		ImageIO.setUseCache(false); // 디코딩할 때 임시 파일 대신 메모리 사용
+	}
+
+	private final Path postDir;
+	private final Path profileDir;
+	private final ImageRefDAO imageRefDAO;
+	private final ExecutorService executor;
+	private final Object[] locks = new Object[LOCK_STRIPES]; // URL 해시로 나눈 잠금
+	// 이번 요청에서 새로 만든 파일 URL -> 만든 요청, 다른 요청이 재사용하면 빠짐 (실패 시 여기 남은 것만 지움)
+	private final Map<String, Object> owners = new ConcurrentHashMap<>();
+
+	public ImagePipeline(ImageRefDAO imageRefDAO, @Value("${file.upload.path}") String uploadPath) {
+		this(imageRefDAO, Paths.get(uploadPath, "img"), Paths.get(System.getProperty("user.dir"), "uploads", "profile"),
+				Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+	}
+
+	ImagePipeline(ImageRefDAO imageRefDAO, Path postDir, Path profileDir, int workers) {
+		this.imageRefDAO = imageRefDAO;
+		this.postDir = postDir;
+		this.profileDir = profileDir;
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		this.executor = Executors.newFixedThreadPool(workers, r -> {
+			Thread t = new Thread(r, "image-pipeline");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 게시글 이미지들을 동시에 처리해서 저장하고, 업로드 순서대로 원본 URL 목록을 반환합니다.
+	 * 이미 저장된 것과 내용이 같은 파일은 다시 처리하지 않고 기존 경로를 반환합니다.
+	 * 한 장이라도 실패하면 이번 요청에서 새로 만든 파일을 지우고 예외를 던집니다.
+	 * (그 사이 다른 요청이 재사용한 파일은 남겨 둡니다.)
+	 * @throws IllegalArgumentException 이미지가 아닌 파일이 섞인 경우.
+	 */
+	public List<String> storePostImages(MultipartFile[] files) throws IOException {
+		Object owner = new Object(); // 이번 요청
+		List<Future<String>> tasks = new ArrayList<>();
+		for (MultipartFile file : files) {
+			if (!file.isEmpty()) {
+				tasks.add(executor.submit(() -> storePostImage(file, owner)));
+			}
+		}
+
+		List<String> stored = new ArrayList<>();
+		Throwable failure = null;
+		for (Future<String> task : tasks) {
+			try {
+				stored.add(task.get());
+			} catch (ExecutionException e) {
+				failure = failure == null ? e.getCause() : failure;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure = failure == null ? e : failure;
+			}
+		}
+		if (failure != null) {
+			stored.forEach(url -> discard(url, owner));
+			if (failure instanceof IOException io) {
+				throw io;
+			}
+			if (failure instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IOException("이미지 처리 실패", failure);
+		}
+		stored.forEach(url -> owners.remove(url, owner));
+		return stored;
+	}
+
+	/**
+	 * 프로필 이미지를 가운데 기준 정사각형(PROFILE_EDGE)으로 잘라 저장합니다.
+	 * @return 프로필 URL (예: /profile/ab/ab12...ef.jpg).
+	 */
+	public String storeProfileImage(MultipartFile file) throws IOException {
+		String hash = sha256(file);
+		String url = "/profile/" + hash.substring(0, 2) + "/" + hash + ".jpg";
+		if (!reuse(url)) {
+			publish(url, List.of(writeTemp(squareCrop(decode(file), PROFILE_EDGE), fileOf(url))), null);
+		}
+		return url;
+	}
+
+	/**
+	 * 게시글/프로필에서 빠진 이미지를 정리합니다. (트랜잭션 안이면 커밋 후에)
+	 * 내용 주소로 저장된 파일만 대상이며, 다른 게시글/프로필이 아직 참조하거나
+	 * 최근에 업로드된 파일은 남겨 둡니다. (남은 파일은 주기적인 정리 작업이 처리)
+	 */
+	public void release(Collection<String> urls) {
+		List<String> candidates = urls.stream().filter(ImagePipeline::isContentAddressed).distinct().toList();
+		if (candidates.isEmpty()) {
+			return;
+		}
+		Runnable task = () -> candidates.forEach(this::releaseNow);
+		AfterCommit.run(() -> executor.execute(task));
+	}
+
+	public static boolean isContentAddressed(String url) {
+		return url != null && CONTENT_ADDRESSED.matcher(url).matches();
+	}
+
+	private void releaseNow(String url) {
+		try {
+			deleteIfUnreferenced(url, RELEASE_GRACE_MILLIS);
+		} catch (Exception e) {
+			System.err.println("ImagePipeline: 이미지 정리 실패 (" + url + "): " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 참조가 없고 graceMillis 동안 재사용되지 않은 이미지를 원본/중간/썸네일까지 한꺼번에 지웁니다.
+	 * 세 파일 중 가장 최근 수정 시각으로 판단하며, 확인과 삭제 사이에 reuse()가 끼어들지 못하도록 잠금 안에서 처리합니다.
+	 * (release()와 UploadSweeper에서 사용)
+	 * @return 지운 파일 수.
+	 */
+	int deleteIfUnreferenced(String url, long graceMillis) throws IOException {
+		synchronized (lockOf(url)) {
+			if (owners.containsKey(url) || imageRefDAO.countReferences(url) > 0) {
+				return 0;
+			}
+			List<Path> files = new ArrayList<>();
+			long newest = 0;
+			for (Path file : filesOf(url)) {
+				if (Files.exists(file)) {
+					files.add(file);
+					newest = Math.max(newest, Files.getLastModifiedTime(file).toMillis());
+				}
+			}
+			if (files.isEmpty() || System.currentTimeMillis() - newest <= graceMillis) {
+				return 0;
+			}
+			deleteFiles(url);
+			return files.size();
+		}
+	}
+
+	// 실패한 요청이 만든 파일 정리, 다른 요청이 재사용했으면(owners에서 빠졌으면) 남김
+	private void discard(String url, Object owner) {
+		synchronized (lockOf(url)) {
+			if (owners.remove(url, owner)) {
+				deleteFiles(url);
+			}
+		}
+	}
+
+	private Object lockOf(String url) {
+		return locks[Math.floorMod(url.hashCode(), LOCK_STRIPES)];
+	}
+
+	// 원본 URL -> 중간 크기 URL (예전 업로드처럼 변형이 없으면 원본 그대로)
+	public static String mediumOf(String url) {
+		return hasVariants(url) ? url.substring(0, url.length() - 4) + MEDIUM_SUFFIX : url;
+	}
+
+	// 원본 URL -> 썸네일 URL (예전 업로드처럼 변형이 없으면 원본 그대로)
+	public static String thumbnailOf(String url) {
+		return hasVariants(url) ? url.substring(0, url.length() - 4) + THUMB_SUFFIX : url;
+	}
+
+	private static boolean hasVariants(String url) {
+		return url != null && url.startsWith(POST_IMAGE_URL) && url.endsWith(".jpg");
+	}
+
+	private String storePostImage(MultipartFile file, Object owner) throws IOException {
+		String hash = sha256(file);
+		String url = POST_IMAGE_URL + hash.substring(0, 2) + "/" + hash + ".jpg";
+		if (reuse(url)) {
+			return url;
+		}
+		BufferedImage image = decode(file);
+		// 큰 것부터 줄여 가며 다음 크기의 입력으로 사용 (매번 원본에서 줄이는 것보다 빠름)
+		BufferedImage large = fit(image, LARGE_EDGE);
+		BufferedImage medium = fit(large, MEDIUM_EDGE);
+		List<Path> tmps = new ArrayList<>();
+		try {
+			tmps.add(writeTemp(squareCrop(medium, THUMB_EDGE), fileOf(thumbnailOf(url))));
+			tmps.add(writeTemp(medium, fileOf(mediumOf(url))));
+			tmps.add(writeTemp(large, fileOf(url)));
+		} catch (IOException | RuntimeException e) {
+			deleteTemps(tmps);
+			throw e;
+		}
+		publish(url, tmps, owner);
+		return url;
+	}
+
+	// 원본과 (게시글 이미지면) 중간/썸네일이 모두 있으면 수정 시각을 갱신하고 true
+	// (release/UploadSweeper가 방금 다시 올라온 파일을 지우지 않도록), 하나라도 없으면 false -> 다시 만듦
+	// 다른 요청이 만들던 파일이어도 이제 같이 쓰므로 만든 요청의 정리 대상에서 뺌
+	private boolean reuse(String url) {
+		synchronized (lockOf(url)) {
+			List<Path> files = filesOf(url);
+			if (!files.stream().allMatch(Files::exists)) {
+				return false;
+			}
+			FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+			for (Path file : files) {
+				try {
+					Files.setLastModifiedTime(file, now);
+				} catch (IOException e) {
+					System.err.println("ImagePipeline: 수정 시각 갱신 실패 (" + file + "): " + e.getMessage());
+				}
+			}
+			owners.remove(url);
+			return true;
+		}
+	}
+
+	// 임시 파일들을 제자리로 옮김 (tmps는 filesOf(url) 순서), 그 사이 다른 요청이 같은 파일을 만들었으면 그것을 씀
+	// owner가 있으면 실패 시 정리할 수 있도록 기록
+	private void publish(String url, List<Path> tmps, Object owner) throws IOException {
+		synchronized (lockOf(url)) {
+			if (reuse(url)) {
+				deleteTemps(tmps);
+				return;
+			}
+			List<Path> targets = filesOf(url);
+			try {
+				for (int i = 0; i < targets.size(); i++) {
+					Files.move(tmps.get(i), targets.get(i), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+			} catch (IOException | RuntimeException e) {
+				deleteTemps(tmps);
+				deleteFiles(url);
+				throw e;
+			}
+			if (owner != null) {
+				owners.put(url, owner);
+			}
+		}
+	}
+
+	// URL -> 디스크 경로
+	Path fileOf(String url) {
+		return url.startsWith(POST_IMAGE_URL)
+				? postDir.resolve(url.substring(POST_IMAGE_URL.length()))
+				: profileDir.resolve(url.substring("/profile/".length()));
+	}
+
+	// 원본과 (게시글 이미지면) 중간/썸네일 경로, 원본이 마지막 (원본이 있으면 변형도 있도록 마지막에 옮김)
+	private List<Path> filesOf(String url) {
+		return url.startsWith(POST_IMAGE_URL)
+				? List.of(fileOf(thumbnailOf(url)), fileOf(mediumOf(url)), fileOf(url))
+				: List.of(fileOf(url));
+	}
+
+	// 원본과 (게시글 이미지면) 중간/썸네일까지 삭제
+	private void deleteFiles(String url) {
+		for (Path file : filesOf(url)) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				System.err.println("ImagePipeline: 파일 삭제 실패 (" + file + "): " + e.getMessage());
+			}
+		}
+	}
+
+	private static void deleteTemps(List<Path> tmps) {
+		for (Path tmp : tmps) {
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (IOException e) {
+				// 남은 임시 파일은 UploadSweeper가 정리
+			}
+		}
+	}
+
+	// 업로드 내용을 한 번 흘려 읽으며 SHA-256 계산 (소문자 16진수)
+	private static String sha256(MultipartFile file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	// 디코딩 + EXIF 회전 반영 + RGB로 변환 (투명 배경은 흰색)
+	// 디코딩 전에 헤더의 가로/세로만 읽어 MAX_PIXELS를 넘으면 거절하고,
+	// 결과(LARGE_EDGE)보다 훨씬 크면 읽을 때 건너뛰며(subsampling) 읽어 메모리를 줄임
+	private static BufferedImage decode(MultipartFile file) throws IOException {
+		int orientation;
+		try (InputStream in = file.getInputStream()) {
+			orientation = ExifOrientation.read(in);
+		}
+		BufferedImage image;
+		try (InputStream in = file.getInputStream(); ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+			if (readers == null || !readers.hasNext()) {
+				throw new IllegalArgumentException("이미지 파일이 아닙니다: " + file.getOriginalFilename());
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(iis, true, true);
+				int width = reader.getWidth(0), height = reader.getHeight(0);
+				if (width <= 0 || height <= 0 || (long) width * height > MAX_PIXELS) {
+					throw new IllegalArgumentException("이미지 크기가 너무 큽니다 (" + width + "x" + height + "): "
+							+ file.getOriginalFilename());
+				}
+				ImageReadParam param = reader.getDefaultReadParam();
+				int step = Math.max(1, Math.max(width, height) / (LARGE_EDGE * 2));
+				param.setSourceSubsampling(step, step, 0, 0);
+				image = reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+		return orient(toRgb(image), orientation);
+	}
+
+	private static BufferedImage toRgb(BufferedImage image) {
+		if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+			return image;
+		}
+		BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = rgb.createGraphics();
+		g.setColor(Color.WHITE);
+		g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		return rgb;
+	}
+
+	// EXIF Orientation 값(1~8)대로 돌려서 똑바로 세움
+	private static BufferedImage orient(BufferedImage image, int orientation) {
+		if (orientation <= 1 || orientation > 8) {
+			return image;
+		}
+		int w = image.getWidth(), h = image.getHeight();
+		boolean swap = orientation >= 5;
+		AffineTransform t = new AffineTransform();
+		switch (orientation) {
+			case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+			case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+			case 4 -> { t.translate(0, h); t.scale(1, -1); }
+			case 5 -> { t.rotate(Math.PI / 2); t.scale(1, -1); }
+			case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+			case 7 -> { t.scale(-1, 1); t.translate(-h, w); t.rotate(-Math.PI / 2); }
+			case 8 -> { t.translate(0, w); t.rotate(-Math.PI / 2); }
+			default -> { }
+		}
+		BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = out.createGraphics();
+		g.drawImage(image, t, null);
+		g.dispose();
+		return out;
+	}
+
+	// 긴 변이 maxEdge를 넘으면 비율 유지하며 줄임 (반씩 여러 번 줄여서 계단 현상 방지)
+	private static BufferedImage fit(BufferedImage image, int maxEdge) {
+		int w = image.getWidth(), h = image.getHeight();
+		if (Math.max(w, h) <= maxEdge) {
+			return image;
+		}
+		double scale = (double) maxEdge / Math.max(w, h);
+		return scale(image, Math.max(1, (int) Math.round(w * scale)), Math.max(1, (int) Math.round(h * scale)));
+	}
+
+	// 짧은 변 기준으로 가운데를 정사각형으로 잘라서 edge 크기로
+	private static BufferedImage squareCrop(BufferedImage image, int edge) {
+		int side = Math.min(image.getWidth(), image.getHeight());
+		BufferedImage square = image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+		return side <= edge ? copy(square) : scale(square, edge, edge);
+	}
+
+	private static BufferedImage scale(BufferedImage image, int targetW, int targetH) {
+		BufferedImage current = image;
+		int w = image.getWidth(), h = image.getHeight();
+		do {
+			w = Math.max(targetW, w / 2);
+			h = Math.max(targetH, h / 2);
+			BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+			Graphics2D g = next.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(current, 0, 0, w, h, null);
+			g.dispose();
+			current = next;
+		} while (w != targetW || h != targetH);
+		return current;
+	}
+
+	private static BufferedImage copy(BufferedImage image) {
+		BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = out.createGraphics();
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		return out;
+	}
+
+	// target 옆 임시 파일에 JPEG로 씀 (publish에서 옮겨서 쓰다 만 파일이 서빙되지 않도록 함)
+	private static Path writeTemp(BufferedImage image, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		try (OutputStream os = Files.newOutputStream(tmp); ImageOutputStream ios = ImageIO.createImageOutputStream(os)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+			writer.setOutput(ios);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tmp);
+			throw e;
+		} finally {
+			writer.dispose();
+		}
+		return tmp;
+	}
+
+	// JPEG의 EXIF(APP1)에서 Orientation 태그(0x0112)만 읽음, 없거나 JPEG가 아니면 1
+	static final class ExifOrientation {
+
+		static int read(InputStream in) throws IOException {
+			if (in.read() != 0xFF || in.read() != 0xD8) {
+				return 1;
+			}
+			while (true) {
+				int marker = nextMarker(in);
+				if (marker < 0 || marker == 0xDA || marker == 0xD9) { // 이미지 데이터 시작 전까지만
+					return 1;
+				}
+				int length = (in.read() << 8) | in.read();
+				if (length < 2) {
+					return 1;
+				}
+				byte[] segment = in.readNBytes(length - 2);
+				if (marker == 0xE1 && segment.length > 14 && segment[0] == 'E' && segment[1] == 'x'
+						&& segment[2] == 'i' && segment[3] == 'f') {
+					return fromTiff(segment, 6);
+				}
+			}
+		}
+
+		private static int nextMarker(InputStream in) throws IOException {
+			int b = in.read();
+			while (b != -1 && b != 0xFF) {
+				b = in.read();
+			}
+			while (b == 0xFF) {
+				b = in.read();
+			}
+			return b;
+		}
+
+		private static int fromTiff(byte[] data, int tiff) {
+			boolean little = data[tiff] == 'I';
+			int ifd = tiff + readInt(data, tiff + 4, little);
+			if (ifd + 2 > data.length) {
+				return 1;
+			}
+			int entries = readShort(data, ifd, little);
+			for (int i = 0; i < entries; i++) {
+				int entry = ifd + 2 + i * 12;
+				if (entry + 12 > data.length) {
+					return 1;
+				}
+				if (readShort(data, entry, little) == 0x0112) {
+					return readShort(data, entry + 8, little);
+				}
+			}
+			return 1;
+		}
+
+		private static int readShort(byte[] d, int at, boolean little) {
+			return little ? (d[at] & 0xFF) | (d[at + 1] & 0xFF) << 8 : (d[at] & 0xFF) << 8 | (d[at + 1] & 0xFF);
+		}
+
+		private static int readInt(byte[] d, int at, boolean little) {
+			return little
+					? readShort(d, at, true) | readShort(d, at + 2, true) << 16
+					: readShort(d, at, false) << 16 | readShort(d, at + 2, false);
+		}
+	}
+
+}
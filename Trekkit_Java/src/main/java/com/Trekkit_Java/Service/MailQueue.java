@@ -0,0 +1,143 @@
+package com.Trekkit_Java.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Util.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+// 메일 발송 큐
+// 요청 스레드는 enqueue만 하고, 실제 SMTP 발송은 워커 스레드가 재시도(지수 백오프)하면서 처리
+// SMTP가 느려도 톰캣 스레드, DB 커넥션을 잡고 있지 않음
+
+@Component
+public class MailQueue {
+
+	private static final int WORKERS = 2; // 발송 워커 수
+	private static final int CAPACITY = 500; // 대기열 최대 크기
+	private static final int MAX_ATTEMPTS = 3; // 최대 시도 횟수
+	private static final long BACKOFF_MILLIS = 1000L; // 첫 재시도 대기 시간 (이후 2배씩)
+
+	private final JavaMailSender mailSender;
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final ThreadPoolExecutor executor;
+
+	// 지표
+	private final LongAdder sent = new LongAdder(); // 발송 성공
+	private final LongAdder failed = new LongAdder(); // 재시도 끝에 실패
+	private final LongAdder retried = new LongAdder(); // 재시도 횟수
+	private final LongAdder rejected = new LongAdder(); // 대기열이 가득 차서 버린 메일
+	private final LongAdder sendMillis = new LongAdder(); // 성공한 발송에 걸린 시간 합계
+	private final AtomicInteger inFlight = new AtomicInteger(); // 발송 중인 메일 수
+
+	@Autowired
+	public MailQueue(JavaMailSender mailSender) {
+		this(mailSender, WORKERS, CAPACITY, MAX_ATTEMPTS, BACKOFF_MILLIS);
+	}
+
+	// 테스트에서 워커 수, 백오프를 바꿀 수 있게
+	MailQueue(JavaMailSender mailSender, int workers, int capacity, int maxAttempts, long backoffMillis) {
+		this.mailSender = mailSender;
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		AtomicInteger threadNo = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(capacity),
+				r -> {
+					Thread t = new Thread(r, "mail-sender-" + threadNo.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+	}
+
+	// 메일을 대기열에 넣음 (트랜잭션 안이면 커밋 후에 넣어서 롤백된 인증번호 메일이 나가지 않도록)
+	public void enqueue(SimpleMailMessage message) {
+		AfterCommit.run(() -> submit(message));
+	}
+
+	private void submit(SimpleMailMessage message) {
+		try {
+			executor.execute(() -> deliver(message));
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			System.err.println("MailQueue: 대기열이 가득 차서 메일을 보내지 못했습니다. " + String.join(",", message.getTo()));
+		}
+	}
+
+	// 실패하면 backoffMillis, 2배, 4배... 기다렸다가 maxAttempts까지 재시도
+	private void deliver(SimpleMailMessage message) {
+		inFlight.incrementAndGet();
+		try {
+			long delay = backoffMillis;
+			for (int attempt = 1; ; attempt++) {
+				long start = System.nanoTime();
+				try {
+					mailSender.send(message);
+					sendMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+					sent.increment();
+					return;
+				} catch (MailException e) {
+					if (attempt >= maxAttempts) {
+						failed.increment();
+						System.err.println("MailQueue: 메일 발송 실패 (" + attempt + "회 시도): " + e.getMessage());
+						return;
+					}
+				}
+				retried.increment();
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					failed.increment();
+					return;
+				}
+				delay *= 2;
+			}
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	// 현재 지표 (대기열 길이, 발송 중, 성공/실패/재시도/거부 수, 평균 발송 시간)
+	public Map<String, Object> metrics() {
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		long sentCount = sent.sum();
+		metrics.put("queueDepth", executor.getQueue().size());
+		metrics.put("inFlight", inFlight.get());
+		metrics.put("sent", sentCount);
+		metrics.put("failed", failed.sum());
+		metrics.put("retried", retried.sum());
+		metrics.put("rejected", rejected.sum());
+		metrics.put("avgSendMillis", sentCount == 0 ? 0 : sendMillis.sum() / sentCount);
+		return metrics;
+	}
+
+	// 종료 시 남은 메일은 잠깐 기다려서 보내고 종료
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -2,7 +2,6 @@ package com.Trekkit_Java.Service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +13,7 @@ import com.Trekkit_Java.DAO.AuthCodeDao;
 public class MailService {
 	
 	@Autowired private AuthCodeDao acd; 
-	@Autowired private JavaMailSender mailSender;
+	@Autowired private MailQueue mailQueue; // 발송은 큐에서 비동기로
 
 	// 팀명 정해지면 넣기
 	@Transactional
@@ -61,10 +60,10 @@ public class MailService {
             message.setTo(cleanEmail);
             message.setSubject("[이메일 인증] 인증 코드 발송");
             message.setText(mailText);
-            mailSender.send(message);
             
-            // 4. DB 저장
+            // 4. DB 저장 후 발송 큐에 넣음 (실제 발송은 커밋 후 워커 스레드에서)
             acd.insertAuthCode(cleanEmail,authCode);
+            mailQueue.enqueue(message);
             
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -141,10 +140,10 @@ public class MailService {
             message.setTo(cleanEmail);
             message.setSubject("[이메일 인증] 인증 코드 발송");
             message.setText(mailText);
-            mailSender.send(message);
             
-            // 4. DB 저장
+            // 4. DB 저장 후 발송 큐에 넣음 (실제 발송은 커밋 후 워커 스레드에서)
             acd.insertAuthCode(cleanEmail,authCode);
+            mailQueue.enqueue(message);
             
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -5,12 +5,17 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import com.Trekkit_Java.DAO.ModifyDAO;
+import com.Trekkit_Java.DTO.User;
 
 @Service
 public class ModifyService {
 	
 	@Autowired private ModifyDAO md;
+	@Autowired private UserCache userCache;
+	@Autowired private ImagePipeline imagePipeline;
 	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
 
 	@Transactional
@@ -20,6 +25,7 @@ public class ModifyService {
 			
 			String hashedPw = null; // 암호화한 비밀번호를 저장하는 용도
 			int result = 0; // 결과 확인
+			User before = userCache.get(userId); // 바뀌기 전 프로필 (정리용)
 			
 			if(pw != null && !pw.isEmpty()) {
 				hashedPw = passwordEncoder.encode(pw);
@@ -32,6 +38,13 @@ public class ModifyService {
 				result = md.updateDataNP(userId,nickname,profileUrl);
 			}
 
+	        if (result > 0) {
+	        	userCache.invalidate(userId); // 바뀐 닉네임/프로필이 바로 보이도록
+	        	if (before != null && before.getProfile() != null && !before.getProfile().equals(profileUrl)) {
+	        		imagePipeline.release(List.of(before.getProfile())); // 커밋 후 아무도 안 쓰는 예전 프로필 정리
+	        	}
+	        }
+
 	        return result > 0; // 업데이트된 행이 1개 이상이면 성공
             
         } catch (Exception e) {
@@ -41,4 +54,18 @@ public class ModifyService {
 		
 	}
 
+	// 회원 탈퇴
+	@Transactional
+	public int deleteUser(Long userId) {
+		User before = userCache.get(userId);
+		int result = md.deleteUser(userId);
+		if (result > 0) {
+			userCache.invalidate(userId);
+			if (before != null && before.getProfile() != null) {
+				imagePipeline.release(List.of(before.getProfile()));
+			}
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,398 @@
+package com.Trekkit_Java.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.MountainDAO;
+import com.Trekkit_Java.Model.Mountain;
+import com.Trekkit_Java.Util.Hangul;
+import com.Trekkit_Java.Util.PrefixTrie;
+
+import jakarta.annotation.PostConstruct;
+
+// 산 목록(mountains) 검색용 메모리 인덱스
+// LIKE '%검색어%'는 인덱스를 못 타서 매번 풀스캔이라, 시작할 때 전체를 읽어두고 메모리에서 검색함
+// 이름/주소는 1글자, 2글자 n-gram 역색인으로 후보를 줄이고 contains로 최종 확인
+// 초성 검색(ex. "ㅂㅎ" -> 북한산)은 이름의 초성 문자열로 만든 트라이에서 접두사로 찾음
+// 자동완성(suggest)은 접두사/포함/오타(편집 거리) 순으로, 같으면 게시글이 많은 산을 먼저 보여줌
+// 데이터가 바뀌면 refresh() 호출
+
+@Component
+public class MountainCatalogIndex {
+
+	private static final int MAX_SUGGEST = 20; // 자동완성 최대 개수
+
+	@Autowired private MountainDAO mountainDAO;
+
+	// 검색 결과 (요청한 페이지 + 전체 개수)
+	public record Page(List<Mountain> mountains, int total) {}
+
+	// 한 번 만들면 바뀌지 않는 인덱스 (refresh 때 통째로 교체)
+	private static final class Snapshot {
+		final Mountain[] byName; // 이름순 정렬, 아래 배열들은 전부 이 배열의 위치를 가리킴
+		final String[] names; // 소문자로 바꾼 이름
+		final String[] addresses; // 소문자로 바꾼 주소
+		final int[] heightAsc; // 높이 오름차순
+		final int[] heightDesc; // 높이 내림차순
+		final Map<String, int[]> nameGrams; // n-gram -> 위치 목록 (오름차순)
+		final Map<String, int[]> addressGrams;
+		final PrefixTrie choseongTrie; // 이름 초성 문자열 트라이
+		final int[] popularity; // 산 이름별 게시글 수 (자동완성 순위용)
+
+		Snapshot(List<Mountain> mountains, Map<String, Integer> postCounts) {
+			byName = mountains.toArray(new Mountain[0]);
+			Arrays.sort(byName, Comparator.comparing(Mountain::getMntiname, Comparator.nullsLast(Comparator.naturalOrder())));
+			int n = byName.length;
+			names = new String[n];
+			addresses = new String[n];
+			for (int i = 0; i < n; i++) {
+				names[i] = normalize(byName[i].getMntiname());
+				addresses[i] = normalize(byName[i].getMntiadd());
+			}
+			heightAsc = sortedPositions(Comparator.comparingDouble((Integer i) -> byName[i].getMntihigh()).thenComparing(i -> i));
+			heightDesc = sortedPositions(Comparator.comparingDouble((Integer i) -> -byName[i].getMntihigh()).thenComparing(i -> i));
+			nameGrams = buildGrams(names);
+			addressGrams = buildGrams(addresses);
+			choseongTrie = new PrefixTrie();
+			for (int i = 0; i < n; i++) {
+				choseongTrie.add(Hangul.choseong(names[i]), i);
+			}
+			choseongTrie.freeze();
+			popularity = new int[n];
+			for (int i = 0; i < n; i++) {
+				popularity[i] = postCounts.getOrDefault(byName[i].getMntiname(), 0);
+			}
+		}
+
+		private int[] sortedPositions(Comparator<Integer> order) {
+			Integer[] positions = new Integer[byName.length];
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = i;
+			}
+			Arrays.sort(positions, order);
+			return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	private volatile Snapshot snapshot;
+
+	// 시작할 때 한 번 읽어둠 (DB가 아직 안 떠 있으면 첫 검색 때 다시 시도)
+	@PostConstruct
+	public void init() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			System.err.println("MountainCatalogIndex: 초기 로딩 실패, 첫 검색 때 다시 시도합니다. " + e.getMessage());
+		}
+	}
+
+	// DB에서 전체 산 목록을 다시 읽어 인덱스를 교체
+	public void refresh() {
+		Map<String, Integer> postCounts = new HashMap<>();
+		for (Map<String, Object> row : mountainDAO.countPostsByMountain()) {
+			postCounts.put(String.valueOf(row.get("mountain")), ((Number) row.get("cnt")).intValue());
+		}
+		snapshot = new Snapshot(mountainDAO.selectAllForIndex(), postCounts);
+	}
+
+	// 검색어(이름, 초성만 입력하면 초성 접두사), 지역(주소), 초성(접두사) 조건으로 검색해서 offset부터 size개와 전체 개수를 반환
+	public Page query(String search, String location, String initial, String orderBy, int offset, int size) {
+		Snapshot s = current();
+		int[] matched = match(s, search, location, initial);
+
+		int[] order = null; // null이면 이름순 (matched 순서 그대로)
+		if ("mntihigh ASC".equals(orderBy)) {
+			order = s.heightAsc;
+		} else if ("mntihigh DESC".equals(orderBy)) {
+			order = s.heightDesc;
+		}
+
+		List<Mountain> page = new ArrayList<>();
+		int from = Math.max(offset, 0);
+		int to = Math.min(from + Math.max(size, 0), matched.length);
+		if (from < to) {
+			if (order == null) {
+				for (int i = from; i < to; i++) {
+					page.add(s.byName[matched[i]]);
+				}
+			} else {
+				boolean[] hit = new boolean[s.byName.length];
+				for (int position : matched) {
+					hit[position] = true;
+				}
+				int seen = 0;
+				for (int position : order) {
+					if (hit[position] && seen++ >= from) {
+						page.add(s.byName[position]);
+						if (page.size() == to - from) {
+							break;
+						}
+					}
+				}
+			}
+		}
+		return new Page(page, matched.length);
+	}
+
+	// 자동완성: 접두사 일치 > 포함 > 오타 허용(접두사 편집 거리) 순, 같으면 인기(게시글 수) 순으로 최대 limit개
+	// 초성만 입력하면 초성 접두사로 찾음
+	public List<Mountain> suggest(String q, int limit) {
+		Snapshot s = current();
+		String term = normalize(q);
+		int k = Math.min(limit, MAX_SUGGEST);
+		if (term.isEmpty() || k <= 0) {
+			return List.of();
+		}
+
+		// {위치, 점수} - 점수가 작을수록 앞 (단계 * 100 + 편집 거리)
+		Comparator<int[]> better = Comparator.<int[]>comparingInt(c -> c[1])
+				.thenComparingInt(c -> -s.popularity[c[0]])
+				.thenComparingInt(c -> s.names[c[0]].length())
+				.thenComparingInt(c -> c[0]);
+		PriorityQueue<int[]> top = new PriorityQueue<>(k + 1, better.reversed()); // 가장 나쁜 후보가 맨 앞
+
+		if (Hangul.isChoseongOnly(term)) {
+			for (int position : s.choseongTrie.find(Hangul.choseong(term))) {
+				offer(top, new int[] {position, 0}, k);
+			}
+		} else {
+			int maxTypos = term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : 2;
+			for (int position : suggestCandidates(s, term, maxTypos)) {
+				String name = s.names[position];
+				int score;
+				if (name.startsWith(term)) {
+					score = 0;
+				} else if (name.contains(term)) {
+					score = 100;
+				} else {
+					int distance = prefixDistance(term, name, maxTypos);
+					if (distance > maxTypos) {
+						continue;
+					}
+					score = 200 + distance;
+				}
+				offer(top, new int[] {position, score}, k);
+			}
+		}
+
+		List<int[]> ranked = new ArrayList<>(top);
+		ranked.sort(better);
+		List<Mountain> result = new ArrayList<>(ranked.size());
+		for (int[] candidate : ranked) {
+			result.add(s.byName[candidate[0]]);
+		}
+		return result;
+	}
+
+	private static void offer(PriorityQueue<int[]> top, int[] candidate, int k) {
+		top.add(candidate);
+		if (top.size() > k) {
+			top.poll();
+		}
+	}
+
+	// 오타 maxTypos개 안에서 맞을 수 있는 이름 (q-gram 개수 필터)
+	// 편집 한 번은 q-gram을 최대 q개 깨므로, 맞는 이름은 검색어의 서로 다른 q-gram 중 (개수 - q * maxTypos)개 이상을 가짐
+	// 2-gram으로 기준이 1개 이상이면 2-gram, 아니면(짧은 검색어, 3글자 + 오타 1개 등) 1-gram으로 같은 기준
+	private static int[] suggestCandidates(Snapshot s, String term, int maxTypos) {
+		Set<String> grams = distinctGrams(term, 2);
+		int need = grams.size() - 2 * maxTypos;
+		if (need < 1) {
+			grams = distinctGrams(term, 1);
+			need = Math.max(1, grams.size() - maxTypos);
+		}
+		int[] hits = new int[s.byName.length];
+		int count = 0;
+		for (String gram : grams) {
+			int[] postings = s.nameGrams.get(gram);
+			if (postings != null) {
+				for (int position : postings) {
+					if (++hits[position] == need) {
+						count++;
+					}
+				}
+			}
+		}
+		int[] candidates = new int[count];
+		for (int i = 0, j = 0; i < hits.length; i++) {
+			if (hits[i] >= need) {
+				candidates[j++] = i;
+			}
+		}
+		return candidates;
+	}
+
+	private static Set<String> distinctGrams(String value, int q) {
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + q <= value.length(); i++) {
+			grams.add(value.substring(i, i + q));
+		}
+		return grams;
+	}
+
+	// term과 name의 앞부분(term 길이 ± max) 사이의 최소 편집 거리, max를 넘으면 max + 1
+	static int prefixDistance(String term, String name, int max) {
+		int n = term.length();
+		int m = Math.min(name.length(), n + max);
+		int[] prev = new int[m + 1];
+		int[] curr = new int[m + 1];
+		for (int j = 0; j <= m; j++) {
+			prev[j] = j;
+		}
+		for (int i = 1; i <= n; i++) {
+			curr[0] = i;
+			int rowMin = curr[0];
+			for (int j = 1; j <= m; j++) {
+				int cost = term.charAt(i - 1) == name.charAt(j - 1) ? 0 : 1;
+				curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+				rowMin = Math.min(rowMin, curr[j]);
+			}
+			if (rowMin > max) {
+				return max + 1;
+			}
+			int[] tmp = prev;
+			prev = curr;
+			curr = tmp;
+		}
+		// 마지막 행에서 이름의 어느 길이까지를 접두사로 볼지 가장 가까운 것 선택
+		int best = max + 1;
+		for (int j = Math.max(0, n - max); j <= m; j++) {
+			best = Math.min(best, prev[j]);
+		}
+		return best;
+	}
+
+	private Snapshot current() {
+		Snapshot s = snapshot;
+		if (s == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					refresh();
+				}
+				s = snapshot;
+			}
+		}
+		return s;
+	}
+
+	// 조건에 맞는 위치 목록 (이름순)
+	private static int[] match(Snapshot s, String search, String location, String initial) {
+		int[] candidates = null; // null = 전체
+		String name = normalize(search);
+		if (Hangul.isChoseongOnly(name)) {
+			candidates = s.choseongTrie.find(Hangul.choseong(name));
+		} else if (!name.isEmpty()) {
+			candidates = filterContains(lookup(s.nameGrams, name, candidates), s.names, name);
+		}
+		String address = normalize(location);
+		if (!address.isEmpty()) {
+			candidates = filterContains(lookup(s.addressGrams, address, candidates), s.addresses, address);
+		}
+		if (initial != null && !initial.isBlank()) {
+			int[] prefixed = s.choseongTrie.find(Hangul.choseong(initial));
+			candidates = candidates == null ? prefixed : intersect(candidates, prefixed);
+		}
+		if (candidates == null) {
+			candidates = s.choseongTrie.find(""); // 전체
+		}
+		return candidates;
+	}
+
+	// 검색어의 n-gram 목록을 모두 교집합 (n-gram이 다 있어도 연속이 아닐 수 있어서 뒤에서 contains로 확인)
+	private static int[] lookup(Map<String, int[]> grams, String term, int[] candidates) {
+		int[] result = candidates;
+		for (String gram : gramsOf(term)) {
+			int[] postings = grams.get(gram);
+			if (postings == null) {
+				return new int[0];
+			}
+			result = result == null ? postings : intersect(result, postings);
+			if (result.length == 0) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private static int[] filterContains(int[] positions, String[] values, String term) {
+		int count = 0;
+		int[] filtered = new int[positions.length];
+		for (int position : positions) {
+			if (values[position].contains(term)) {
+				filtered[count++] = position;
+			}
+		}
+		return Arrays.copyOf(filtered, count);
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] out = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				out[k++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(out, k);
+	}
+
+	private static Map<String, int[]> buildGrams(String[] values) {
+		Map<String, List<Integer>> postings = new HashMap<>();
+		for (int i = 0; i < values.length; i++) {
+			for (String gram : indexGramsOf(values[i])) {
+				List<Integer> list = postings.computeIfAbsent(gram, k -> new ArrayList<>());
+				if (list.isEmpty() || list.get(list.size() - 1) != i) { // 같은 값 안의 중복 n-gram은 한 번만
+					list.add(i);
+				}
+			}
+		}
+		Map<String, int[]> grams = new HashMap<>(postings.size() * 2);
+		postings.forEach((gram, list) -> grams.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+		return grams;
+	}
+
+	// 검색할 때: 1글자 검색어는 1-gram, 그 외에는 2-gram 목록
+	private static List<String> gramsOf(String value) {
+		if (value.length() == 1) {
+			return List.of(value);
+		}
+		List<String> grams = new ArrayList<>();
+		for (int i = 0; i + 1 < value.length(); i++) {
+			grams.add(value.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	// 색인할 때: 1글자 검색도 찾을 수 있게 1-gram, 2-gram 모두
+	private static List<String> indexGramsOf(String value) {
+		List<String> grams = new ArrayList<>();
+		for (int i = 0; i < value.length(); i++) {
+			grams.add(value.substring(i, i + 1));
+			if (i + 1 < value.length()) {
+				grams.add(value.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	private static String normalize(String value) {
+		return value == null ? "" : value.trim().toLowerCase();
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.Trekkit_Java.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.Trekkit_Java.DAO.MountainDAO;
+import com.Trekkit_Java.ExternalAPI.MountainAPIClient;
+import com.Trekkit_Java.Model.Mountain;
+
+// 공공데이터 산정보를 mountains 테이블에 반영
+// 기존 행과 비교해서 바뀐 것/새로운 것만 BATCH_SIZE개씩 여러 행 upsert
+// 반영 후 검색 인덱스(MountainCatalogIndex) 갱신
+
+@Service
+public class MountainIngestService {
+
+	private static final int BATCH_SIZE = 500; // 한 번의 INSERT에 넣을 행 수
+
+	@Autowired private MountainAPIClient apiClient;
+	@Autowired private MountainDAO mountainDAO;
+	@Autowired private MountainCatalogIndex catalogIndex;
+
+	// 결과: fetched(받은 행), changed(upsert한 행), unchanged(그대로인 행)
+	public Map<String, Integer> ingest() throws Exception {
+		List<Mountain> fetched = apiClient.fetchAll();
+
+		Map<String, Mountain> existing = new HashMap<>();
+		for (Mountain mountain : mountainDAO.selectAllForIndex()) {
+			existing.put(mountain.getMntilistno(), mountain);
+		}
+
+		// 같은 번호가 여러 페이지에 있으면 마지막 것 사용
+		Map<String, Mountain> latest = new LinkedHashMap<>();
+		for (Mountain mountain : fetched) {
+			if (mountain.getMntilistno() != null && !mountain.getMntilistno().isBlank()) {
+				latest.put(mountain.getMntilistno(), mountain);
+			}
+		}
+
+		List<Mountain> changed = new ArrayList<>();
+		for (Mountain mountain : latest.values()) {
+			if (!sameContent(existing.get(mountain.getMntilistno()), mountain)) {
+				changed.add(mountain);
+			}
+		}
+
+		for (int from = 0; from < changed.size(); from += BATCH_SIZE) {
+			mountainDAO.upsertMountains(changed.subList(from, Math.min(from + BATCH_SIZE, changed.size())));
+		}
+		if (!changed.isEmpty()) {
+			catalogIndex.refresh();
+		}
+
+		Map<String, Integer> result = new LinkedHashMap<>();
+		result.put("fetched", latest.size());
+		result.put("changed", changed.size());
+		result.put("unchanged", latest.size() - changed.size());
+		return result;
+	}
+
+	// 이미지 경로는 이름에서 만들어지므로 비교하지 않음
+	private static boolean sameContent(Mountain before, Mountain after) {
+		return before != null
+				&& Objects.equals(before.getMntiname(), after.getMntiname())
+				&& Objects.equals(before.getMntiadd(), after.getMntiadd())
+				&& Double.compare(before.getMntihigh(), after.getMntihigh()) == 0
+				&& Objects.equals(before.getMntidetails(), after.getMntidetails());
+	}
+
+}
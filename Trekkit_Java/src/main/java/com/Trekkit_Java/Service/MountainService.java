@@ -9,6 +9,8 @@ import org.springframework.stereotype.Service;
 
 import com.Trekkit_Java.DAO.MountainDAO;
 import com.Trekkit_Java.DTO.MountainDTO;
+import com.Trekkit_Java.DTO.MountainListResponse;
+import com.Trekkit_Java.DTO.MountainSuggestionDTO;
 import com.Trekkit_Java.Model.Mountain;
 
 @Service
@@ -16,6 +18,9 @@ public class MountainService {
 	@Autowired
 	private MountainDAO mountainDAO;
 	
+	@Autowired
+	private MountainCatalogIndex catalogIndex;
+	
 	public List<Mountain> getAllMountains(int page, int size) {
 	    int offset = (page - 1) * size;
 
@@ -26,39 +31,13 @@ public class MountainService {
 	    return mountainDAO.selectAll(params);
 	}
 
-    public List<Mountain> filteredMountains(int page, int size, String search, String location, String initial, String orderBy) {
+    // 목록 검색은 DB 대신 메모리 인덱스에서 처리 (LIKE '%...%' 풀스캔 방지)
+    // 조건을 한 번만 적용해서 해당 페이지와 전체 개수를 같이 구함
+    public MountainListResponse getMountainList(int page, int size, String search, String location, String initial, String orderBy) {
         int offset = (page - 1) * size;
-        
-	      Map<String, Object> params = new HashMap<>();
-	      params.put("offset", offset);
-	      params.put("size", size);
-	      params.put("search", search);
-	      params.put("orderBy", orderBy);
-	
-	      if (location != null && !location.trim().isEmpty()) {
-	    	  params.put("location", location);
-	      }
-	      
-	      if (initial != null && !initial.isEmpty()) {
-	            switch (initial) {
-	                case "ㄱ": params.put("initialStart", "가"); params.put("initialEnd", "나"); break;
-	                case "ㄴ": params.put("initialStart", "나"); params.put("initialEnd", "다"); break;
-	                case "ㄷ": params.put("initialStart", "다"); params.put("initialEnd", "라"); break;
-	                case "ㄹ": params.put("initialStart", "라"); params.put("initialEnd", "마"); break;
-	                case "ㅁ": params.put("initialStart", "마"); params.put("initialEnd", "바"); break;
-	                case "ㅂ": params.put("initialStart", "바"); params.put("initialEnd", "사"); break;
-	                case "ㅅ": params.put("initialStart", "사"); params.put("initialEnd", "아"); break;
-	                case "ㅇ": params.put("initialStart", "아"); params.put("initialEnd", "자"); break;
-	                case "ㅈ": params.put("initialStart", "자"); params.put("initialEnd", "차"); break;
-	                case "ㅊ": params.put("initialStart", "차"); params.put("initialEnd", "카"); break;
-	                case "ㅋ": params.put("initialStart", "카"); params.put("initialEnd", "타"); break;
-	                case "ㅌ": params.put("initialStart", "타"); params.put("initialEnd", "파"); break;
-	                case "ㅍ": params.put("initialStart", "파"); params.put("initialEnd", "하"); break;
-	                case "ㅎ": params.put("initialStart", "하"); params.put("initialEnd", "힣"); break;
-	            }
-	            params.put("initial", initial);
-	        }
-	     return mountainDAO.filteredMountains(params);
+        MountainCatalogIndex.Page result = catalogIndex.query(search, location, initial, orderBy, offset, size);
+        int totalPages = (int) Math.ceil((double) result.total() / size);
+        return new MountainListResponse(result.mountains(), totalPages, page, result.total());
     }
     
     public Mountain getMountainByListNo(int mntilistno) {
@@ -69,6 +48,13 @@ public class MountainService {
         return mountainDAO.searchByName(name);
     }
     
+    // 자동완성 (메모리 인덱스, 필요한 필드만)
+    public List<MountainSuggestionDTO> autocomplete(String q, int limit) {
+        return catalogIndex.suggest(q, limit).stream()
+                .map(m -> new MountainSuggestionDTO(m.getMntilistno(), m.getMntiname(), m.getMntiadd(), m.getMntihigh()))
+                .toList();
+    }
+    
     public int countAll() {
         return mountainDAO.countAll();
     }
@@ -76,37 +62,4 @@ public class MountainService {
     public int countByLocation(String location) {
         return mountainDAO.countByLocation(location);
     }
-    
-    public int countByInitial(String location, String search, String initial) {
-    	    Map<String, Object> params = new HashMap<>();
-
-    	    if (location != null && !location.isEmpty()) {
-    	        params.put("location", location);
-    	    }
-    	    
-    	    if (search != null && !search.isEmpty()) {
-    	        params.put("search", search);
-    	    }
-
-    	    if (initial != null && !initial.isEmpty()) {
-                switch (initial) {
-                    case "ㄱ": params.put("initialStart", "가"); params.put("initialEnd", "나"); break;
-                    case "ㄴ": params.put("initialStart", "나"); params.put("initialEnd", "다"); break;
-                    case "ㄷ": params.put("initialStart", "다"); params.put("initialEnd", "라"); break;
-                    case "ㄹ": params.put("initialStart", "라"); params.put("initialEnd", "마"); break;
-                    case "ㅁ": params.put("initialStart", "마"); params.put("initialEnd", "바"); break;
-                    case "ㅂ": params.put("initialStart", "바"); params.put("initialEnd", "사"); break;
-                    case "ㅅ": params.put("initialStart", "사"); params.put("initialEnd", "아"); break;
-                    case "ㅇ": params.put("initialStart", "아"); params.put("initialEnd", "자"); break;
-                    case "ㅈ": params.put("initialStart", "자"); params.put("initialEnd", "차"); break;
-                    case "ㅊ": params.put("initialStart", "차"); params.put("initialEnd", "카"); break;
-                    case "ㅋ": params.put("initialStart", "카"); params.put("initialEnd", "타"); break;
-                    case "ㅌ": params.put("initialStart", "타"); params.put("initialEnd", "파"); break;
-                    case "ㅍ": params.put("initialStart", "파"); params.put("initialEnd", "하"); break;
-                    case "ㅎ": params.put("initialStart", "하"); params.put("initialEnd", "힣"); break;
-                }
-                params.put("initial", initial);
-            }
-            return mountainDAO.countByCondition(params);
-        }
 }
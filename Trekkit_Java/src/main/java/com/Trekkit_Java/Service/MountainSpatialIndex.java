@@ -0,0 +1,226 @@
+package com.Trekkit_Java.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.MountainCourseDAO;
+import com.Trekkit_Java.DAO.MountainImageDAO;
+import com.Trekkit_Java.DTO.MountainCourse;
+import com.Trekkit_Java.DTO.MountainImageDTO;
+import com.Trekkit_Java.DTO.MountainPointDTO;
+
+import jakarta.annotation.PostConstruct;
+
+// 산 좌표(mountain_image, mountain_course) 격자 인덱스
+// 위도/경도를 CELL_DEG 크기 칸으로 나눠서 칸 -> 좌표 목록으로 들고 있음
+// 지도 화면 범위(bbox) 검색은 겹치는 칸만 보고, 주변 검색(kNN)은 가까운 칸부터 고리 모양으로 넓혀감
+// 데이터가 바뀌면 refresh() 호출
+
+@Component
+public class MountainSpatialIndex {
+
+	private static final double CELL_DEG = 0.1; // 칸 크기 (약 11km)
+	private static final double KM_PER_DEG = 111.0; // 위도 1도 거리
+	private static final double EARTH_RADIUS_KM = 6371.0;
+
+	@Autowired private MountainImageDAO mountainImageDAO;
+	@Autowired private MountainCourseDAO mountainCourseDAO;
+
+	private record Point(String source, Long id, String name, String location, double lat, double lng) {}
+
+	private static final class Snapshot {
+		final Map<Long, List<Point>> cells = new HashMap<>();
+		int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+		int size;
+
+		void add(Point point) {
+			int x = cell(point.lng());
+			int y = cell(point.lat());
+			cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(point);
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
+			size++;
+		}
+	}
+
+	private volatile Snapshot snapshot;
+
+	@PostConstruct
+	public void init() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			System.err.println("MountainSpatialIndex: 초기 로딩 실패, 첫 검색 때 다시 시도합니다. " + e.getMessage());
+		}
+	}
+
+	// DB에서 좌표를 다시 읽어 인덱스 교체
+	public void refresh() {
+		Snapshot s = new Snapshot();
+		for (MountainImageDTO image : mountainImageDAO.findAllWithCoordinates()) {
+			s.add(new Point("image", image.getId(), image.getName(), image.getLocation(), image.getLatitude(), image.getLongitude()));
+		}
+		for (MountainCourse course : mountainCourseDAO.findAllWithCoordinates()) {
+			s.add(new Point("course", null, course.getMountainName(), course.getMountainLocation(), course.getLatitude(), course.getLongitude()));
+		}
+		snapshot = s;
+	}
+
+	// 사각형 범위 안의 좌표 (최대 limit개)
+	public List<MountainPointDTO> withinBox(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+		Snapshot s = current();
+		List<MountainPointDTO> result = new ArrayList<>();
+		int fromX = Math.max(cell(minLng), s.minX), toX = Math.min(cell(maxLng), s.maxX);
+		int fromY = Math.max(cell(minLat), s.minY), toY = Math.min(cell(maxLat), s.maxY);
+		for (int y = fromY; y <= toY; y++) {
+			for (int x = fromX; x <= toX; x++) {
+				List<Point> points = s.cells.get(key(x, y));
+				if (points == null) {
+					continue;
+				}
+				for (Point p : points) {
+					if (p.lat() >= minLat && p.lat() <= maxLat && p.lng() >= minLng && p.lng() <= maxLng) {
+						result.add(toDTO(p, null));
+						if (result.size() >= limit) {
+							return result;
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	// 기준점에서 가까운 순서로 k개
+	// 고리는 데이터 범위(칸 경계 상자)에 처음 닿는 곳부터 가장 먼 모서리까지만, 각 고리는 상자 안의 테두리 칸만 봄
+	// -> 기준점이 데이터에서 아무리 멀어도 보는 칸 수는 상자 크기로 제한됨
+	public List<MountainPointDTO> nearest(double lat, double lng, int k) {
+		if (!(lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180)) { // NaN도 여기서 걸러짐
+			throw new IllegalArgumentException("좌표가 올바르지 않습니다.");
+		}
+		Snapshot s = current();
+		if (k <= 0 || s.size == 0) {
+			return List.of();
+		}
+		int cx = cell(lng), cy = cell(lat);
+		// 가장 먼 후보가 맨 앞 (k개 유지)
+		PriorityQueue<double[]> top = new PriorityQueue<>(Comparator.comparingDouble((double[] c) -> c[0]).reversed());
+		List<Point> found = new ArrayList<>();
+
+		int minRing = Math.max(0, Math.max(Math.max(s.minX - cx, cx - s.maxX), Math.max(s.minY - cy, cy - s.maxY)));
+		int maxRing = Math.max(Math.max(Math.abs(cx - s.minX), Math.abs(cx - s.maxX)),
+				Math.max(Math.abs(cy - s.minY), Math.abs(cy - s.maxY)));
+		// 데이터 중 적도에서 가장 먼 칸 경계의 cos (경도 차이에 따른 거리의 하한 계산용)
+		double minCosLat = Math.min(Math.cos(Math.toRadians(Math.min(90, Math.abs(s.minY * CELL_DEG)))),
+				Math.cos(Math.toRadians(Math.min(90, Math.abs((s.maxY + 1) * CELL_DEG)))));
+		// 격자는 ±180도에서 이어지지 않으므로, 경도 차이가 180도를 넘으면 반대쪽으로 잰 차이가 실제 차이
+		double maxLngGapDeg = 360 - (Math.max(Math.abs(cx - s.minX), Math.abs(cx - s.maxX)) + 1) * CELL_DEG;
+		for (int r = minRing; r <= maxRing; r++) {
+			if (top.size() == k && minRingDistanceKm(lat, minCosLat, maxLngGapDeg, r) > top.peek()[0]) {
+				break;
+			}
+			// 위/아래 변 (모서리 포함), 왼쪽/오른쪽 변 (모서리 제외), 상자 밖 칸은 건너뜀
+			for (int y : r == 0 ? new int[] {cy} : new int[] {cy - r, cy + r}) {
+				if (y >= s.minY && y <= s.maxY) {
+					for (int x = Math.max(cx - r, s.minX); x <= Math.min(cx + r, s.maxX); x++) {
+						collect(s, x, y, lat, lng, k, top, found);
+					}
+				}
+			}
+			if (r == 0) {
+				continue;
+			}
+			for (int x : new int[] {cx - r, cx + r}) {
+				if (x >= s.minX && x <= s.maxX) {
+					for (int y = Math.max(cy - r + 1, s.minY); y <= Math.min(cy + r - 1, s.maxY); y++) {
+						collect(s, x, y, lat, lng, k, top, found);
+					}
+				}
+			}
+		}
+
+		List<double[]> ranked = new ArrayList<>(top);
+		ranked.sort(Comparator.comparingDouble(c -> c[0]));
+		List<MountainPointDTO> result = new ArrayList<>(ranked.size());
+		for (double[] c : ranked) {
+			result.add(toDTO(found.get((int) c[1]), Math.round(c[0] * 100) / 100.0));
+		}
+		return result;
+	}
+
+	// 한 칸의 좌표를 후보(top, 가까운 k개)에 반영
+	private static void collect(Snapshot s, int x, int y, double lat, double lng, int k,
+			PriorityQueue<double[]> top, List<Point> found) {
+		List<Point> points = s.cells.get(key(x, y));
+		if (points == null) {
+			return;
+		}
+		for (Point p : points) {
+			double distance = distanceKm(lat, lng, p.lat(), p.lng());
+			if (top.size() < k || distance < top.peek()[0]) {
+				found.add(p);
+				top.add(new double[] {distance, found.size() - 1});
+				if (top.size() > k) {
+					top.poll();
+				}
+			}
+		}
+	}
+
+	private Snapshot current() {
+		Snapshot s = snapshot;
+		if (s == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					refresh();
+				}
+				s = snapshot;
+			}
+		}
+		return s;
+	}
+
+	// r번째 이후 고리의 점까지 거리의 하한
+	// 그 점은 위도나 경도가 최소 (r - 1)칸 차이남
+	// 위도 차이 d -> 거리 >= d, 경도 차이 l -> hav(거리) >= cos(기준 위도) * cos(점 위도) * hav(l)
+	// 점 위도의 cos는 데이터 중 가장 작은 값(minCosLat)으로, 경도 차이는 반대쪽으로 잰 차이(maxLngGapDeg)를 넘지 않게 잡음
+	private static double minRingDistanceKm(double lat, double minCosLat, double maxLngGapDeg, int r) {
+		if (r <= 1) {
+			return 0;
+		}
+		double gap = Math.toRadians(Math.max(0, Math.min(Math.min((r - 1) * CELL_DEG, maxLngGapDeg), 180)));
+		double byLat = (r - 1) * CELL_DEG * KM_PER_DEG;
+		double hav = Math.cos(Math.toRadians(lat)) * minCosLat * Math.pow(Math.sin(gap / 2), 2);
+		double byLng = 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, Math.max(0, hav))));
+		return Math.min(byLat, byLng);
+	}
+
+	static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+				+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+	}
+
+	private static MountainPointDTO toDTO(Point p, Double distanceKm) {
+		return new MountainPointDTO(p.source(), p.id(), p.name(), p.location(), p.lat(), p.lng(), distanceKm);
+	}
+
+	private static int cell(double deg) {
+		return (int) Math.floor(deg / CELL_DEG);
+	}
+
+	private static long key(int x, int y) {
+		return ((long) y << 32) ^ (x & 0xffffffffL);
+	}
+}
@@ -22,6 +22,9 @@ public class NoticeService {
     @Autowired // NoticeDAO의 인스턴스를 자동으로 주입받습니다.
     private NoticeDAO noticeDAO;
 
+    @Autowired // 조회수 증가분을 모았다가 일괄 반영하는 버퍼를 주입받습니다.
+    private ViewCountBuffer viewCountBuffer;
+
     /**
      * 페이징 처리된 공지사항 목록과 전체 개수를 조회합니다.
      * @param offset 조회 시작 위치 (페이지네이션).
@@ -48,13 +51,17 @@ public class NoticeService {
 
     /**
      * 특정 공지사항의 상세 정보를 조회하고, 조회수를 1 증가시킵니다.
+     * 조회수 증가는 ViewCountBuffer에 모았다가 주기적으로 반영하므로, 응답의 조회수는 DB 값에 반영 대기 중인 증가분을 더한 값입니다.
      * @param id 조회할 공지사항의 ID.
      * @return 조회된 공지사항 DTO (NoticeDTO).
      */
-    @Transactional // 이 메서드 내의 DB 작업(조회수 증가 및 상세 조회)이 하나의 트랜잭션으로 처리되도록 합니다.
+    @Transactional(readOnly = true) // 조회수 UPDATE가 빠졌으므로 읽기 전용 트랜잭션으로 처리합니다.
     public NoticeDTO getNoticeDetail(int id) {
-        noticeDAO.increaseViewCount(id); // 해당 공지사항의 조회수를 1 증가시킵니다.
         NoticeDTO notice = noticeDAO.selectNoticeById(id); // 해당 공지사항의 상세 정보를 조회합니다.
+        if (notice != null) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.NOTICE, id); // 해당 공지사항의 조회수를 1 증가시킵니다. (지연 반영)
+            notice.setViewCount(notice.getViewCount() + (int) viewCountBuffer.pendingCount(ViewCountBuffer.Target.NOTICE, id));
+        }
         return notice; // 조회된 공지사항 DTO를 반환합니다.
     }
 
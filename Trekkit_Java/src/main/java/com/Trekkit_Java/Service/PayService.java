@@ -10,12 +10,16 @@ import com.Trekkit_Java.DAO.PayDAO;
 public class PayService {
 	
 	@Autowired private PayDAO pd;
+	@Autowired private UserCache userCache;
 
 	@Transactional
 	public int addPoint(Long userid, int point) {
 
 		// DB에 데이터를 넣고 성공하면 1을 리턴 아니면 0을 리턴
 		int result = pd.updateUserPoint(userid, point);
+		if (result > 0) {
+			userCache.invalidate(userid); // 캐시된 포인트 갱신
+		}
         return result; // 1이면 성공, 0이면 실패
         
 	}
@@ -24,7 +28,11 @@ public class PayService {
 		
 	    // return payDao.usePoint(userid, point); // 실제 차감 처리
 	    // 포인트 부족한지 확인하거나 예외처리는 여기서도 가능
-	    return pd.usePoint(userid, point);
+	    int result = pd.usePoint(userid, point);
+	    if (result > 0) {
+	    	userCache.invalidate(userid);
+	    }
+	    return result;
 	}
 
 
@@ -0,0 +1,127 @@
+package com.Trekkit_Java.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.PostDAO;
+import com.Trekkit_Java.Util.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 산별 게시글 수(totalCount)를 메모리에 보관하는 캐시입니다.
+ * 게시글 목록을 조회할 때마다 COUNT(*)를 실행하지 않도록, 처음 조회한 산의 개수만 DB에서 읽고
+ * 이후에는 게시글 작성/삭제/산 변경 시 증감하여 유지합니다.
+ * 트랜잭션 롤백 등으로 생기는 오차는 PostCountScheduler가 주기적으로 DB 값으로 보정(reconcile)합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private static final String ALL = ""; // 산 필터가 없는 전체 게시글 수의 키
+    private static final int MAX_KEYS = 2000; // 캐시에 보관할 최대 산 수
+
+    private final PostDAO postDAO; // 캐시에 없는 산의 개수를 조회하고 보정할 때 사용합니다.
+
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>(); // 산 이름 -> 게시글 수
+
+    /**
+     * 특정 산(또는 전체)의 게시글 수를 반환합니다. 캐시에 없으면 DB에서 조회합니다.
+     * 산 이름은 요청 파라미터 그대로이므로, 게시글이 있는 산만 MAX_KEYS개까지 캐시합니다.
+     * (게시글이 없는 이름은 캐시하지 않으므로 아무 이름으로 조회해도 맵이 커지지 않습니다)
+     * @param mountain 산 이름 (null 또는 빈 문자열이면 전체 게시글 수).
+     * @return 게시글 수.
+     */
+    public int get(String mountain) {
+        String key = key(mountain);
+        AtomicInteger cached = counts.get(key);
+        if (cached != null) {
+            return cached.get();
+        }
+        int count = postDAO.count(key);
+        if ((count == 0 && !key.equals(ALL)) || counts.size() >= MAX_KEYS) {
+            return count;
+        }
+        AtomicInteger previous = counts.putIfAbsent(key, new AtomicInteger(count));
+        return previous != null ? previous.get() : count;
+    }
+
+    /**
+     * 게시글이 작성되었을 때 해당 산과 전체 게시글 수를 1 증가시킵니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영됩니다.
+     * @param mountain 작성된 게시글의 산 이름.
+     */
+    public void increment(String mountain) {
+        AfterCommit.run(() -> {
+            add(ALL, 1);
+            addMountain(mountain, 1);
+        });
+    }
+
+    /**
+     * 게시글이 삭제되었을 때 해당 산과 전체 게시글 수를 1 감소시킵니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영됩니다.
+     * @param mountain 삭제된 게시글의 산 이름.
+     */
+    public void decrement(String mountain) {
+        AfterCommit.run(() -> {
+            add(ALL, -1);
+            addMountain(mountain, -1);
+        });
+    }
+
+    /**
+     * 게시글의 산이 변경되었을 때 이전 산의 개수를 줄이고 새 산의 개수를 늘립니다. (전체 개수는 그대로입니다)
+     * 산이 없던(또는 없어지는) 경우에는 산이 있는 쪽만 바뀝니다.
+     * @param oldMountain 변경 전 산 이름.
+     * @param newMountain 변경 후 산 이름.
+     */
+    public void move(String oldMountain, String newMountain) {
+        if (key(oldMountain).equals(key(newMountain))) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            addMountain(oldMountain, -1);
+            addMountain(newMountain, 1);
+        });
+    }
+
+    /**
+     * 캐시에 있는 모든 산의 게시글 수를 DB 값으로 다시 맞춥니다.
+     * 롤백되었거나 다른 경로(관리자 직접 수정 등)로 바뀐 개수의 오차를 보정합니다.
+     * 게시글이 모두 없어진 산은 캐시에서 뺍니다.
+     */
+    public void reconcile() {
+        for (Map.Entry<String, AtomicInteger> entry : counts.entrySet()) {
+            int count = postDAO.count(entry.getKey());
+            if (count == 0 && !entry.getKey().equals(ALL)) {
+                counts.remove(entry.getKey(), entry.getValue());
+            } else {
+                entry.getValue().set(count);
+            }
+        }
+    }
+
+    // 캐시에 이미 있는 키만 증감합니다. (없는 키는 다음 조회 시 DB에서 정확한 값을 읽습니다)
+    private void add(String key, int delta) {
+        AtomicInteger count = counts.get(key);
+        if (count != null) {
+            count.addAndGet(delta);
+        }
+    }
+
+    // 산별 개수만 증감합니다. 산이 없는 게시글은 전체 개수에만 포함되므로 건너뜁니다. (전체 키에 두 번 더해지지 않도록)
+    private void addMountain(String mountain, int delta) {
+        if (!key(mountain).equals(ALL)) {
+            add(mountain, delta);
+        }
+    }
+
+    // count 쿼리와 같이 null과 빈 문자열은 산 필터 없음(전체)으로 봅니다.
+    private static String key(String mountain) {
+        return mountain == null || mountain.isEmpty() ? ALL : mountain;
+    }
+}
@@ -2,35 +2,40 @@ package com.Trekkit_Java.Service;
 
 import com.Trekkit_Java.DAO.PostDAO; // PostDAO 인터페이스 임포트 (데이터베이스 접근)
 import com.Trekkit_Java.DTO.PostDTO; // PostDTO 데이터 전송 객체 임포트
+import com.Trekkit_Java.DTO.PostImageDTO; // PostImageDTO 데이터 전송 객체 임포트
+import com.Trekkit_Java.Util.CursorCodec; // 커서 페이지네이션용 커서 인코딩/디코딩 유틸리티
 import lombok.RequiredArgsConstructor; // Lombok의 @RequiredArgsConstructor (final 필드 생성자 자동 생성)
 import org.springframework.stereotype.Service; // 이 클래스가 서비스 계층의 컴포넌트임을 나타내는 어노테이션
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리를 위한 어노테이션
 import org.springframework.web.multipart.MultipartFile; // MultipartFile (파일 업로드) 추가
 
+import java.sql.Timestamp; // 커서의 created_at 값 (Timestamp)
 import java.util.ArrayList; // ArrayList 사용
 import java.util.HashMap; // HashMap 사용
+import java.util.LinkedHashSet; // 순서를 유지하는 Set (중복 ID 제거)
 import java.util.List; // List 인터페이스 사용
 import java.util.Map; // Map 인터페이스 사용
 import java.util.Objects; // 객체 비교 유틸리티 사용 (Objects.equals)
-import java.io.File; // 파일 시스템 접근 (File)
-import java.nio.file.Files; // 파일 복사 (Files)
-import java.nio.file.Path; // 파일 경로 (Path)
-import java.nio.file.Paths; // 파일 경로 생성 (Paths)
-import java.util.UUID; // 고유 ID 생성 (UUID)
-import org.springframework.beans.factory.annotation.Value; // @Value 어노테이션 (속성 값 주입)
+import java.util.Set; // Set 인터페이스 사용
 
 /**
  * 게시글(Post) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * DAO(Data Access Object)를 통해 데이터베이스와 상호작용하며, 트랜잭션 관리, 파일 업로드 등을 포함합니다.
  */
 @Service // 이 클래스가 Spring 서비스 계층의 컴포넌트임을 나타냅니다.
-@RequiredArgsConstructor // Lombok: final 필드(postDAO)를 주입하는 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor // Lombok: final 필드(postDAO, postCountCache, viewCountBuffer, userStateCache, imagePipeline)를 주입하는 생성자를 자동으로 생성합니다.
 public class PostService {
 
     private final PostDAO postDAO; // PostDAO를 주입받아 게시글 관련 DB 작업을 수행합니다.
-    
-    @Value("${file.upload.path}") // application.properties 또는 application.yml에서 'file.upload.path' 속성 값을 주입
-    private String uploadPath; // 파일이 업로드될 경로
+    private final PostCountCache postCountCache; // 산별 게시글 수 캐시 (목록 조회 시 COUNT(*) 생략)
+    private final ViewCountBuffer viewCountBuffer; // 조회수 증가분 버퍼 (주기적으로 DB에 일괄 반영)
+    private final UserStateCache userStateCache; // 사용자별 최근 좋아요/북마크 상태 캐시
+    private final ImagePipeline imagePipeline; // 업로드 이미지 리사이즈/썸네일 생성
+
+    private static final String STATE_KIND = "post"; // UserStateCache에서 게시글 상태를 구분하는 값
+    private static final int FLAG_LIKED = 1; // 좋아요 상태 비트
+    private static final int FLAG_BOOKMARKED = 2; // 북마크 상태 비트
+    private static final int MAX_PAGE_SIZE = 100; // 커서 조회 한 페이지의 최대 크기 (질문 목록과 같음)
 
     /**
      * 새로운 게시글을 생성하고 데이터베이스에 삽입합니다.
@@ -44,61 +49,41 @@ public class PostService {
         postDTO.setUserId(userId); // 게시글 DTO에 작성자 ID를 설정합니다.
         postDAO.save(postDTO); // 게시글을 DB에 삽입합니다.
         
-        // 이미지가 존재하면 각 이미지 경로를 DB에 저장합니다.
+        // 이미지가 존재하면 모든 이미지 경로를 한 번의 INSERT로 저장합니다.
         if (postDTO.getImagePaths() != null && !postDTO.getImagePaths().isEmpty()) {
-            for (String imagePath : postDTO.getImagePaths()) {
-                postDAO.saveImage(postDTO.getId(), imagePath); // 게시글 ID와 이미지 경로 저장
-            }
+            postDAO.saveImages(postDTO.getId(), postDTO.getImagePaths()); // 게시글 ID와 이미지 경로들 저장
         }
+        postCountCache.increment(postDTO.getMountain()); // 커밋 후 산별 게시글 수를 1 증가시킵니다.
         return postDTO; // 생성된 게시글 DTO를 반환합니다.
     }
     
     /**
-     * 클라이언트로부터 받은 이미지 파일들을 서버의 지정된 경로에 업로드하고,
-     * 저장된 파일의 URL 경로 목록을 반환합니다.
+     * 클라이언트로부터 받은 이미지 파일들을 원본(긴 변 1920px)/중간/썸네일 크기로 변환해 저장하고,
+     * 저장된 원본 이미지의 URL 경로 목록을 업로드 순서대로 반환합니다.
+     * 여러 장은 ImagePipeline에서 동시에 처리되며, 파일 작업만 하므로 트랜잭션(DB 커넥션)을 잡지 않습니다.
      * @param files 업로드할 MultipartFile 배열.
-     * @return 업로드된 이미지 파일의 상대 경로 목록.
-     * @throws Exception 파일 시스템 작업 중 오류 발생 시.
+     * @return 업로드된 이미지 파일의 상대 경로 목록 (예: /uploads/img/abc-def.jpg).
+     * @throws Exception 이미지가 아니거나 파일 시스템 작업 중 오류 발생 시.
      */
-    @Transactional // 파일 시스템 작업이지만, DB 트랜잭션과 연계될 수 있으므로 트랜잭션으로 관리 (주의 필요)
     public List<String> uploadPostImages(MultipartFile[] files) throws Exception {
-        List<String> imagePaths = new ArrayList<>(); // 업로드된 이미지 경로를 저장할 리스트
-        
-        // 업로드 디렉토리가 없으면 생성합니다.
-        File uploadDir = new File(uploadPath);
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs(); // 디렉토리 생성
-        }
-
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                String originalFilename = file.getOriginalFilename(); // 원본 파일명
-                String fileExtension = originalFilename.substring(originalFilename.lastIndexOf(".")); // 파일 확장자 추출
-                String uuid = UUID.randomUUID().toString(); // 고유한 파일명 생성을 위한 UUID
-                String newFilename = uuid + fileExtension; // 새로운 파일명
-                Path filePath = Paths.get(uploadPath, newFilename); // 저장될 파일의 전체 경로
-
-                Files.copy(file.getInputStream(), filePath); // 파일을 지정된 경로에 복사
-                // 저장된 파일의 URL 경로를 리스트에 추가 (예: /uploads/abc-def.jpg)
-                imagePaths.add("/uploads/" + newFilename);
-            }
-        }
-        return imagePaths; // 업로드된 이미지 경로 목록 반환
+        return imagePipeline.storePostImages(files);
     }
 
     /**
      * 특정 게시글의 상세 정보를 조회하고, 조회수를 1 증가시킵니다.
      * 게시글에 연결된 이미지 경로도 함께 조회하여 DTO에 설정합니다.
+     * 조회수 증가는 ViewCountBuffer에 모았다가 주기적으로 반영하므로, 응답의 조회수는 DB 값에 반영 대기 중인 증가분을 더한 값입니다.
      * @param postId 조회할 게시글의 ID.
      * @return 조회된 게시글 DTO (PostDTO).
      */
-    @Transactional // 이 메서드 내의 DB 작업(조회수 증가, 게시글 조회, 이미지 조회)이 하나의 트랜잭션으로 처리되도록 합니다.
+    @Transactional(readOnly = true) // 조회수 UPDATE가 빠졌으므로 읽기 전용 트랜잭션으로 처리합니다.
     public PostDTO getPostById(Long postId) {
-        postDAO.increaseViewCount(postId); // 해당 게시글의 조회수를 1 증가시킵니다.
         PostDTO post = postDAO.findById(postId); // 게시글 상세 정보를 조회합니다.
         if (post != null) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.POST, postId); // 해당 게시글의 조회수를 1 증가시킵니다. (지연 반영)
+            post.setViewCount(post.getViewCount() + (int) viewCountBuffer.pendingCount(ViewCountBuffer.Target.POST, postId));
             List<String> images = postDAO.findImagesByPostId(postId); // 게시글에 연결된 이미지 경로들을 조회합니다.
-            post.setImagePaths(images); // 조회된 이미지 경로들을 DTO에 설정합니다.
+            setImages(post, images); // 조회된 이미지 경로(와 중간/썸네일 경로)를 DTO에 설정합니다.
         }
         return post; // 조회된 게시글 DTO를 반환합니다.
     }
@@ -121,13 +106,10 @@ public class PostService {
         params.put("mountain", mountain); // 산 필터
 
         List<PostDTO> posts = postDAO.findAll(params); // 모든 게시글을 필터링 및 페이징 처리하여 조회
-        int totalCount = postDAO.count(mountain); // 전체 게시글 개수 조회 (필터링된 산 기준)
+        int totalCount = postCountCache.get(mountain); // 전체 게시글 개수 (필터링된 산 기준, 캐시에서 조회)
         
-        // 각 게시글에 연결된 이미지 경로를 조회하여 DTO에 설정합니다.
-        for (PostDTO post : posts) {
-            List<String> images = postDAO.findImagesByPostId(post.getId());
-            post.setImagePaths(images);
-        }
+        // 페이지에 포함된 모든 게시글의 이미지 경로를 한 번에 조회하여 각 DTO에 설정합니다.
+        attachImages(posts);
 
         Map<String, Object> response = new HashMap<>(); // 응답 데이터를 담을 Map
         response.put("posts", posts); // 게시글 목록 추가
@@ -135,6 +117,106 @@ public class PostService {
         return response; // 응답 Map 반환
     }
 
+    /**
+     * 게시글 목록을 키셋(커서) 방식으로 조회합니다.
+     * OFFSET 방식은 뒤쪽 페이지일수록 건너뛸 행을 모두 읽어야 하지만, 커서 방식은 이전 페이지 마지막 행의
+     * 정렬 키((created_at, id) 또는 (like_count, created_at, id)) 다음부터 바로 읽으므로 페이지 깊이와 무관하게 일정한 비용이 듭니다.
+     * @param cursor 이전 응답의 nextCursor 값. null 또는 빈 문자열이면 첫 페이지를 조회합니다.
+     * @param size 한 페이지당 게시글 개수.
+     * @param sort 정렬 기준 (예: "최신순", "인기순"). 커서를 만들 때와 같은 정렬 기준이어야 합니다.
+     * @param mountain 특정 산으로 필터링할 경우의 산 이름.
+     * @return 게시글 목록(posts), 다음 페이지 커서(nextCursor, 마지막 페이지면 null), 다음 페이지 존재 여부(hasNext)를 포함하는 Map.
+     * @throws IllegalArgumentException size가 1~MAX_PAGE_SIZE 범위를 벗어나거나, 커서 형식이 잘못되었거나 정렬 기준이 일치하지 않을 경우 발생.
+     */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 설정
+    public Map<String, Object> getPostsByCursor(String cursor, int size, String sort, String mountain) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        boolean popular = "인기순".equals(sort); // 인기순 여부 (커서에 담기는 정렬 키가 달라집니다)
+
+        Map<String, Object> params = new HashMap<>(); // 쿼리 파라미터를 담을 Map
+        params.put("limit", size + 1); // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+        params.put("sort", sort); // 정렬 기준
+        params.put("mountain", mountain); // 산 필터
+
+        if (cursor != null && !cursor.isEmpty()) {
+            // 커서 형식: 인기순 "like|likeCount|createdAt|id", 최신순 "latest|createdAt|id"
+            String[] parts = CursorCodec.decode(cursor, popular ? 4 : 3);
+            if (!parts[0].equals(popular ? "like" : "latest")) {
+                throw new IllegalArgumentException("정렬 기준이 커서와 일치하지 않습니다.");
+            }
+            int i = 1;
+            if (popular) {
+                params.put("cursorLikeCount", CursorCodec.parseLong(parts[i++]));
+            }
+            params.put("cursorCreatedAt", new Timestamp(CursorCodec.parseLong(parts[i++])));
+            params.put("cursorId", CursorCodec.parseLong(parts[i]));
+        }
+
+        List<PostDTO> posts = postDAO.findAll(params); // 커서 이후의 게시글을 조회합니다.
+        boolean hasNext = posts.size() > size; // 요청한 개수보다 많이 조회되면 다음 페이지가 있습니다.
+        if (hasNext) {
+            posts = new ArrayList<>(posts.subList(0, size)); // 확인용으로 더 조회한 한 건은 제외합니다.
+        }
+        attachImages(posts);
+
+        String nextCursor = null; // 다음 페이지 커서 (마지막 페이지면 null)
+        if (hasNext) {
+            PostDTO last = posts.get(posts.size() - 1); // 이번 페이지의 마지막 게시글
+            long createdAt = last.getCreatedAt().getTime();
+            nextCursor = popular
+                    ? CursorCodec.encode("like", last.getLikeCount(), createdAt, last.getId())
+                    : CursorCodec.encode("latest", createdAt, last.getId());
+        }
+
+        Map<String, Object> response = new HashMap<>(); // 응답 데이터를 담을 Map
+        response.put("posts", posts); // 게시글 목록 추가
+        response.put("nextCursor", nextCursor); // 다음 페이지 커서 추가
+        response.put("hasNext", hasNext); // 다음 페이지 존재 여부 추가
+        return response; // 응답 Map 반환
+    }
+
+    /**
+     * 게시글 목록에 연결된 이미지 경로를 한 번의 쿼리로 조회하여 각 게시글 DTO에 설정합니다.
+     * 게시글마다 이미지를 조회하면 페이지 크기만큼 쿼리가 늘어나므로(N+1),
+     * 게시글 ID 목록으로 한 번에 조회한 뒤 메모리에서 게시글 ID 기준으로 묶습니다.
+     * @param posts 이미지 경로를 설정할 게시글 목록.
+     */
+    private void attachImages(List<PostDTO> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return; // 게시글이 없으면 이미지 조회 쿼리를 실행하지 않습니다.
+        }
+
+        List<Long> postIds = new ArrayList<>(posts.size()); // 이미지를 조회할 게시글 ID 목록
+        for (PostDTO post : posts) {
+            postIds.add(post.getId());
+        }
+
+        // 게시글 ID별 이미지 경로 목록 (쿼리가 post_id, id 순으로 정렬되어 있어 이미지 순서가 유지됩니다)
+        Map<Long, List<String>> imagesByPostId = new HashMap<>();
+        for (PostImageDTO image : postDAO.findImagesByPostIds(postIds)) {
+            imagesByPostId.computeIfAbsent(image.getPostId(), id -> new ArrayList<>()).add(image.getImagePath());
+        }
+
+        // 이미지가 없는 게시글에는 기존과 동일하게 빈 목록을 설정합니다.
+        for (PostDTO post : posts) {
+            setImages(post, imagesByPostId.getOrDefault(post.getId(), new ArrayList<>()));
+        }
+    }
+
+    /**
+     * 게시글 DTO에 이미지 경로와, 같은 순서의 중간 크기/썸네일 경로를 설정합니다.
+     * 목록 화면은 썸네일, 상세 화면은 중간 크기를 사용해 원본을 내려받지 않도록 합니다.
+     * @param post 이미지 경로를 설정할 게시글.
+     * @param images 원본 이미지 경로 목록.
+     */
+    private static void setImages(PostDTO post, List<String> images) {
+        post.setImagePaths(images);
+        post.setMediumPaths(images.stream().map(ImagePipeline::mediumOf).toList());
+        post.setThumbnailPaths(images.stream().map(ImagePipeline::thumbnailOf).toList());
+    }
+
     /**
      * 기존 게시글의 내용을 수정하고, 이미지 목록을 갱신합니다.
      * 게시글을 수정하려는 사용자가 해당 게시글의 작성자인지 확인하여 권한을 검사합니다.
@@ -155,15 +237,32 @@ public class PostService {
         if (!Objects.equals(originalPost.getUserId(), userId)) {
             throw new SecurityException("게시글을 수정할 권한이 없습니다.");
         }
+        List<PostImageDTO> oldImages = postDAO.findImagesByPostIds(List.of(postDTO.getId())); // 바뀐 이미지만 반영하기 위해 기존 이미지(ID 순)를 조회합니다.
         postDAO.update(postDTO); // 게시글을 DB에서 업데이트합니다.
+        postCountCache.move(originalPost.getMountain(), postDTO.getMountain()); // 산이 바뀌었으면 산별 게시글 수를 옮깁니다.
 
-        // 기존 이미지를 모두 삭제하고 새로운 이미지 경로들을 다시 저장합니다.
-        postDAO.deleteImagesByPostId(postDTO.getId()); // 기존 이미지 경로 삭제
-        if (postDTO.getImagePaths() != null && !postDTO.getImagePaths().isEmpty()) {
-            for (String imagePath : postDTO.getImagePaths()) {
-                postDAO.saveImage(postDTO.getId(), imagePath); // 새로운 이미지 경로 저장
+        // 바뀐 이미지만 삭제/삽입합니다. 이미지는 ID 순으로 조회되므로, 새 목록의 앞부분 중 기존 순서대로 남아 있는
+        // 이미지는 그대로 두고, 나머지 기존 이미지는 삭제한 뒤 새 목록의 뒷부분을 한 번에 삽입합니다.
+        List<String> newImages = postDTO.getImagePaths() != null ? postDTO.getImagePaths() : List.of();
+        int kept = 0; // 그대로 두는 새 목록의 앞부분 길이
+        List<Long> deleteIds = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (PostImageDTO image : oldImages) {
+            if (kept < newImages.size() && newImages.get(kept).equals(image.getImagePath())) {
+                kept++;
+            } else {
+                deleteIds.add(image.getId());
+                removed.add(image.getImagePath());
             }
         }
+        if (!deleteIds.isEmpty()) {
+            postDAO.deleteImagesByIds(postDTO.getId(), deleteIds); // 빠지거나 순서가 바뀐 이미지 삭제
+        }
+        if (kept < newImages.size()) {
+            postDAO.saveImages(postDTO.getId(), newImages.subList(kept, newImages.size())); // 추가되거나 순서가 바뀐 이미지 삽입
+        }
+        removed.removeAll(newImages); // 다시 삽입되는 이미지는 파일 정리 대상이 아닙니다.
+        imagePipeline.release(removed); // 커밋 후, 더 이상 참조되지 않는 이미지 파일을 정리합니다.
         return postDAO.findById(postDTO.getId()); // 업데이트된 게시글의 상세 정보를 조회하여 반환합니다.
     }
     
@@ -186,29 +285,40 @@ public class PostService {
         if (!Objects.equals(post.getUserId(), userId)) {
             throw new SecurityException("게시글을 삭제할 권한이 없습니다.");
         }
+        List<String> images = postDAO.findImagesByPostId(postId); // 삭제 후 정리할 이미지 경로를 미리 조회합니다.
         postDAO.delete(postId); // 게시글을 DB에서 삭제합니다.
+        imagePipeline.release(images); // 커밋 후, 다른 게시글이 같이 쓰지 않는 이미지 파일을 정리합니다.
+        postCountCache.decrement(post.getMountain()); // 커밋 후 산별 게시글 수를 1 감소시킵니다.
     }
     
     /**
      * 특정 게시글에 대한 좋아요 상태를 토글(추가/취소)합니다.
-     * 좋아요가 없으면 추가하고, 있으면 삭제합니다. 이후 게시글의 좋아요 수를 갱신합니다.
+     * 좋아요가 있으면 삭제하고, 없으면 추가합니다. 먼저 게시글 행을 잠가(lockPost) 게시글이 있는지 확인하고,
+     * 좋아요 존재 여부는 따로 조회하지 않고 DELETE/INSERT의 영향받은 행 수로 판단하여
+     * 실제로 행이 바뀐 경우에만 게시글의 좋아요 수를 +1/-1 합니다.
+     * 같은 게시글에 대한 토글은 게시글 행 잠금으로 차례대로 처리되므로 좋아요가 중복되거나 좋아요 수가 어긋나지 않습니다.
      * @param postId 좋아요를 토글할 게시글의 ID.
      * @param userId 좋아요를 요청한 사용자의 ID.
      * @return 좋아요가 추가되었으면 true, 취소되었으면 false.
+     * @throws IllegalArgumentException 게시글이 존재하지 않을 경우.
      */
     @Transactional // 이 메서드 내의 DB 작업(좋아요 삽입/삭제, 좋아요 수 갱신)이 하나의 트랜잭션으로 처리되도록 합니다.
     public boolean toggleLike(Long postId, Long userId) {
-        boolean isLiked;
-        // 사용자가 해당 게시글에 이미 좋아요를 눌렀는지 확인합니다.
-        if (postDAO.findLikeByPostIdAndUserId(postId, userId) > 0) {
-            postDAO.deleteLike(postId, userId); // 이미 좋아요를 눌렀으면 삭제 (취소)
-            isLiked = false;
-        } else {
-            postDAO.addLike(postId, userId); // 좋아요를 누르지 않았으면 추가
-            isLiked = true;
+        if (postDAO.lockPost(postId) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+        }
+        // 이미 좋아요를 눌렀으면 삭제(취소)됩니다.
+        if (postDAO.deleteLike(postId, userId) > 0) {
+            postDAO.addLikeCount(postId, -1); // 게시글의 좋아요 수를 1 감소시킵니다.
+            userStateCache.update(STATE_KIND, userId, postId, FLAG_LIKED, false); // 캐시된 좋아요 상태 갱신
+            return false; // 좋아요 취소
         }
-        postDAO.updateLikeCount(postId); // 게시글의 좋아요 수를 갱신합니다.
-        return isLiked; // 좋아요 상태 반환
+        // 좋아요가 없었으면 추가합니다. (이미 있는 좋아요라면 0이 반환되고 좋아요 수는 그대로 둡니다)
+        if (postDAO.addLike(postId, userId) > 0) {
+            postDAO.addLikeCount(postId, 1); // 게시글의 좋아요 수를 1 증가시킵니다.
+        }
+        userStateCache.update(STATE_KIND, userId, postId, FLAG_LIKED, true); // 캐시된 좋아요 상태 갱신
+        return true; // 좋아요 추가
     }
 
     /**
@@ -239,9 +349,46 @@ public class PostService {
             postDAO.addBookmark(postId, userId); // 북마크하지 않았으면 추가
             isBookmarked = true;
         }
+        userStateCache.update(STATE_KIND, userId, postId, FLAG_BOOKMARKED, isBookmarked); // 캐시된 북마크 상태 갱신
         return isBookmarked; // 북마크 상태 반환
     }
 
+    /**
+     * 여러 게시글에 대한 특정 사용자의 좋아요/북마크 여부를 한 번에 조회합니다.
+     * 피드 화면에서 게시글마다 상태를 따로 묻지 않도록(N+1 방지) 사용됩니다.
+     * 최근 조회한 상태는 UserStateCache에서 바로 응답하고, 캐시에 없는 게시글만 한 번의 IN 쿼리로 조회합니다.
+     * @param userId 상태를 조회할 사용자의 ID.
+     * @param postIds 상태를 조회할 게시글 ID 목록.
+     * @return 좋아요한 게시글 ID 목록(likedPostIds)과 북마크한 게시글 ID 목록(bookmarkedPostIds)을 포함하는 Map.
+     */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 설정
+    public Map<String, Object> getUserStates(Long userId, List<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds); // 중복 ID 제거 (요청 순서 유지)
+        // 캐시에 없는 게시글만 한 번의 IN 쿼리로 조회합니다. (좋아요/북마크 행을 게시글별 비트로 합침)
+        Map<Long, Integer> states = userStateCache.load(STATE_KIND, userId, ids, missing -> {
+            Map<Long, Integer> loaded = new HashMap<>();
+            for (Map<String, Object> row : postDAO.findUserStates(userId, missing)) {
+                long postId = ((Number) row.get("postId")).longValue();
+                int flag = ((Number) row.get("flag")).intValue();
+                loaded.merge(postId, flag, (a, b) -> a | b);
+            }
+            return loaded;
+        });
+
+        List<Long> likedPostIds = new ArrayList<>(); // 좋아요한 게시글 ID 목록
+        List<Long> bookmarkedPostIds = new ArrayList<>(); // 북마크한 게시글 ID 목록
+        for (Long id : ids) {
+            int flags = states.getOrDefault(id, 0);
+            if ((flags & FLAG_LIKED) != 0) likedPostIds.add(id);
+            if ((flags & FLAG_BOOKMARKED) != 0) bookmarkedPostIds.add(id);
+        }
+
+        Map<String, Object> response = new HashMap<>(); // 응답 데이터를 담을 Map
+        response.put("likedPostIds", likedPostIds);
+        response.put("bookmarkedPostIds", bookmarkedPostIds);
+        return response; // 응답 Map 반환
+    }
+
     /**
      * 데이터베이스에 저장된 모든 산 이름을 조회합니다.
      * @return 모든 산 이름의 리스트.
@@ -2,14 +2,22 @@ package com.Trekkit_Java.Service;
 
 import com.Trekkit_Java.DAO.QnaDAO; // QnaDAO 인터페이스 임포트 (데이터베이스 접근)
 import com.Trekkit_Java.DTO.QnaQuestionDTO; // Q&A 질문 DTO 임포트
+import com.Trekkit_Java.DTO.QnaQuestionSummaryDTO; // Q&A 질문 요약 DTO 임포트
 import com.Trekkit_Java.DTO.QnaAnswerDTO; // Q&A 답변 DTO 임포트
 import com.Trekkit_Java.DTO.QnaLikeDTO; // Q&A 좋아요 DTO 임포트
+import com.Trekkit_Java.Util.CursorCodec; // 커서 페이지네이션용 커서 인코딩/디코딩 유틸리티
 import org.springframework.beans.factory.annotation.Autowired; // 의존성 주입을 위한 어노테이션
 import org.springframework.stereotype.Service; // 이 클래스가 서비스 계층의 컴포넌트임을 나타내는 어노테이션
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리를 위한 어노테이션
 
 import java.time.LocalDateTime; // Java 8의 날짜/시간 API (날짜/시간 자동 설정을 위함)
+import java.time.format.DateTimeParseException; // 커서의 날짜/시간 파싱 오류
+import java.util.ArrayList; // ArrayList 사용을 위해 임포트
+import java.util.HashMap; // HashMap 사용을 위해 임포트
+import java.util.LinkedHashSet; // 순서를 유지하는 Set (중복 ID 제거)
 import java.util.List; // List(컬렉션) 사용을 위해 임포트
+import java.util.Map; // Map 사용을 위해 임포트
+import java.util.Set; // Set 인터페이스 사용
 
 /**
  * Q&A(질문 및 답변) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -22,6 +30,15 @@ public class QnaService {
     @Autowired // QnaDAO의 인스턴스를 자동으로 주입받습니다.
     private QnaDAO qnaDAO;
 
+    @Autowired // 조회수 증가분을 모았다가 일괄 반영하는 버퍼를 주입받습니다.
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired // 사용자별 최근 좋아요 상태 캐시를 주입받습니다.
+    private UserStateCache userStateCache;
+
+    private static final String STATE_KIND = "question"; // UserStateCache에서 질문 좋아요 상태를 구분하는 값
+    private static final int FLAG_LIKED = 1; // 좋아요 상태 비트
+
     // --- Q&A 질문 관련 서비스 메서드 ---
 
     /**
@@ -32,14 +49,86 @@ public class QnaService {
         return qnaDAO.getAllQuestions(); // DAO를 통해 모든 질문을 조회하여 반환합니다.
     }
 
+    /**
+     * Q&A 질문 요약 목록을 필터링하여 키셋(커서) 방식으로 한 페이지씩 조회합니다.
+     * 전체 질문과 본문을 한 번에 내려주지 않으므로 게시판이 커져도 응답 크기와 조회 비용이 페이지 크기만큼으로 유지됩니다.
+     * @param mountain 산 이름 필터 (null이면 전체)
+     * @param solved 해결 여부 필터 (null이면 전체)
+     * @param sort 정렬 기준 ("latest" 최신순, "likes" 좋아요순, "answers" 답변순, 그 외 값은 최신순)
+     * @param cursor 이전 응답의 nextCursor 값 (null 또는 빈 문자열이면 첫 페이지)
+     * @param size 한 페이지당 질문 개수
+     * @return 질문 요약 목록(questions), 다음 페이지 커서(nextCursor, 마지막 페이지면 null), 다음 페이지 존재 여부(hasNext)를 포함하는 Map
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 기준이 일치하지 않을 경우 발생
+     */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 설정
+    public Map<String, Object> getQuestionPage(String mountain, Boolean solved, String sort, String cursor, int size) {
+        if (!"likes".equals(sort) && !"answers".equals(sort)) {
+            sort = "latest"; // 알 수 없는 정렬 기준은 최신순으로 처리합니다.
+        }
+        boolean byCount = !"latest".equals(sort); // 좋아요/답변 수가 첫 번째 정렬 키인지 여부
+
+        Map<String, Object> params = new HashMap<>(); // 쿼리 파라미터를 담을 Map
+        params.put("mountain", mountain); // 산 필터
+        params.put("solved", solved); // 해결 여부 필터
+        params.put("sort", sort); // 정렬 기준
+        params.put("limit", size + 1); // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+
+        if (cursor != null && !cursor.isEmpty()) {
+            // 커서 형식: "정렬기준|(좋아요/답변 수|)createdAt|id"
+            String[] parts = CursorCodec.decode(cursor, byCount ? 4 : 3);
+            if (!parts[0].equals(sort)) {
+                throw new IllegalArgumentException("정렬 기준이 커서와 일치하지 않습니다.");
+            }
+            int i = 1;
+            if (byCount) {
+                params.put("cursorCount", CursorCodec.parseLong(parts[i++]));
+            }
+            try {
+                params.put("cursorCreatedAt", LocalDateTime.parse(parts[i++]));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            params.put("cursorId", CursorCodec.parseLong(parts[i]));
+        }
+
+        List<QnaQuestionSummaryDTO> questions = qnaDAO.getQuestionSummaries(params); // 커서 이후의 질문 요약을 조회합니다.
+        boolean hasNext = questions.size() > size; // 요청한 개수보다 많이 조회되면 다음 페이지가 있습니다.
+        if (hasNext) {
+            questions = new ArrayList<>(questions.subList(0, size)); // 확인용으로 더 조회한 한 건은 제외합니다.
+        }
+
+        String nextCursor = null; // 다음 페이지 커서 (마지막 페이지면 null)
+        if (hasNext) {
+            QnaQuestionSummaryDTO last = questions.get(questions.size() - 1); // 이번 페이지의 마지막 질문
+            if (byCount) {
+                int count = "likes".equals(sort) ? last.getLikeCount() : last.getAnswerCount();
+                nextCursor = CursorCodec.encode(sort, count, last.getCreatedAt(), last.getId());
+            } else {
+                nextCursor = CursorCodec.encode(sort, last.getCreatedAt(), last.getId());
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>(); // 응답 데이터를 담을 Map
+        response.put("questions", questions); // 질문 요약 목록 추가
+        response.put("nextCursor", nextCursor); // 다음 페이지 커서 추가
+        response.put("hasNext", hasNext); // 다음 페이지 존재 여부 추가
+        return response; // 응답 Map 반환
+    }
+
     /**
      * 특정 Q&A 질문의 상세 정보를 조회하고 조회수를 증가시킵니다.
+     * 조회수 증가는 ViewCountBuffer에 모았다가 주기적으로 반영하므로, 응답의 조회수는 DB 값에 반영 대기 중인 증가분을 더한 값입니다.
      * @param id 조회할 질문의 ID
      * @return 조회된 질문 DTO (QnaQuestionDTO)
      */
+    @Transactional(readOnly = true) // 조회수 UPDATE가 빠졌으므로 읽기 전용 트랜잭션으로 처리합니다.
     public QnaQuestionDTO getQuestionById(int id) {
-        qnaDAO.incrementQuestionViewCount(id); // 해당 질문의 조회수를 1 증가시킵니다.
-        return qnaDAO.getQuestionById(id); // 해당 질문의 상세 정보를 조회하여 반환합니다.
+        QnaQuestionDTO question = qnaDAO.getQuestionById(id); // 해당 질문의 상세 정보를 조회합니다.
+        if (question != null) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.QUESTION, id); // 해당 질문의 조회수를 1 증가시킵니다. (지연 반영)
+            question.setViewCount(question.getViewCount() + (int) viewCountBuffer.pendingCount(ViewCountBuffer.Target.QUESTION, id));
+        }
+        return question; // 조회된 질문 DTO를 반환합니다.
     }
 
     /**
@@ -169,11 +258,13 @@ public class QnaService {
             newLike.setCreatedAt(LocalDateTime.now()); // 현재 시간 설정
             qnaDAO.insertQuestionLike(newLike); // DB에 좋아요 정보 삽입
             qnaDAO.incrementQuestionLikeCount(questionId); // 해당 질문의 좋아요 수를 1 증가시킵니다.
+            userStateCache.update(STATE_KIND, userId, questionId, FLAG_LIKED, true); // 캐시된 좋아요 상태 갱신
             return true; // 좋아요가 추가되었음을 반환
         } else {
             // 기존 좋아요가 있으면 삭제(취소)합니다.
             qnaDAO.deleteQuestionLike(questionId, userId); // DB에서 좋아요 정보 삭제
             qnaDAO.decrementQuestionLikeCount(questionId); // 해당 질문의 좋아요 수를 1 감소시킵니다.
+            userStateCache.update(STATE_KIND, userId, questionId, FLAG_LIKED, false); // 캐시된 좋아요 상태 갱신
             return false; // 좋아요가 취소되었음을 반환
         }
     }
@@ -197,6 +288,34 @@ public class QnaService {
         return qnaDAO.checkQuestionLikeStatus(questionId, userId) != null; // 좋아요 정보가 존재하면 true, null이면 false
     }
 
+    /**
+     * 여러 Q&A 질문 중 특정 사용자가 좋아요를 누른 질문 ID 목록을 한 번에 조회합니다.
+     * 최근 조회한 상태는 UserStateCache에서 바로 응답하고, 캐시에 없는 질문만 한 번의 IN 쿼리로 조회합니다.
+     * @param userId 좋아요 상태를 확인할 사용자의 ID
+     * @param questionIds 확인할 질문 ID 목록
+     * @return 좋아요를 누른 질문 ID 목록 (요청 순서 유지)
+     */
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션 설정
+    public List<Long> getLikedQuestionIds(int userId, List<Long> questionIds) {
+        Set<Long> ids = new LinkedHashSet<>(questionIds); // 중복 ID 제거 (요청 순서 유지)
+        // 캐시에 없는 질문만 한 번의 IN 쿼리로 조회합니다.
+        Map<Long, Integer> states = userStateCache.load(STATE_KIND, userId, ids, missing -> {
+            Map<Long, Integer> loaded = new HashMap<>();
+            for (Long id : qnaDAO.findLikedQuestionIds(userId, missing)) {
+                loaded.put(id, FLAG_LIKED);
+            }
+            return loaded;
+        });
+
+        List<Long> liked = new ArrayList<>(); // 좋아요를 누른 질문 ID 목록
+        for (Long id : ids) {
+            if ((states.getOrDefault(id, 0) & FLAG_LIKED) != 0) {
+                liked.add(id);
+            }
+        }
+        return liked;
+    }
+
 
     // --- Q&A 답변 좋아요 관련 서비스 메서드 ---
 
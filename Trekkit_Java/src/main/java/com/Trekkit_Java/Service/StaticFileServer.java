@@ -0,0 +1,193 @@
+package com.Trekkit_Java.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 업로드 파일(/uploads, /profile) 전송
+// 톰캣 sendfile이 되면 커널이 파일을 바로 소켓으로 보내고, 안 되면 FileChannel.transferTo로 JVM 힙 버퍼 없이 전송
+// ETag는 내용 해시: 내용 주소 파일(ImagePipeline)은 파일 이름이 곧 해시, 예전 파일은 처음 요청 때 SHA-256을 계산해 둠
+// If-None-Match / If-Modified-Since -> 304, Range(바이트 구간 하나) -> 206, If-Range 지원
+
+@Component
+public class StaticFileServer {
+
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable"; // 1년
+	private static final String DEFAULT_CACHE = "public, max-age=86400"; // 예전 파일 (하루 뒤 ETag로 재검증)
+	private static final int MAX_ETAG_ENTRIES = 10000;
+
+	// 내용 주소 파일 이름 (예: ab12...ef.jpg, ab12...ef_t.jpg)
+	private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^([0-9a-f]{64}(?:_[mt])?)\\.jpg$");
+	private static final Pattern RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+	// 예전 파일의 해시 (크기/수정 시각이 바뀌면 다시 계산)
+	private record Tag(long size, long modified, String etag) {}
+
+	private final Map<Path, Tag> etags = new ConcurrentHashMap<>();
+
+	/**
+	 * root 아래 relative 파일을 응답으로 보냅니다.
+	 * root 밖을 가리키거나(../), 파일이 없거나, 숨길 폴더(hidden) 아래면 404.
+	 */
+	public void serve(HttpServletRequest request, HttpServletResponse response, Path root, String relative,
+			String... hidden) throws IOException {
+		Path base = root.toAbsolutePath().normalize();
+		Path file = base.resolve(relative.startsWith("/") ? relative.substring(1) : relative).normalize();
+		if (!file.startsWith(base) || file.equals(base) || isHidden(base, file, hidden) || !Files.isRegularFile(file)) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+
+		BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+		long size = attrs.size();
+		long modified = attrs.lastModifiedTime().toMillis() / 1000 * 1000; // HTTP 날짜는 초 단위
+		Matcher contentAddressed = CONTENT_ADDRESSED.matcher(file.getFileName().toString());
+		String etag = contentAddressed.matches() ? "\"" + contentAddressed.group(1) + "\"" : etagOf(file, size, modified);
+
+		response.setHeader(HttpHeaders.ETAG, etag);
+		response.setDateHeader(HttpHeaders.LAST_MODIFIED, modified);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, contentAddressed.matches() ? IMMUTABLE : DEFAULT_CACHE);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		if (notModified(request, etag, modified)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		MediaType type = MediaTypeFactory.getMediaType(file.getFileName().toString()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+		response.setContentType(type.toString());
+		response.setHeader("X-Content-Type-Options", "nosniff");
+
+		long start = 0, end = size; // [start, end)
+		String range = request.getHeader(HttpHeaders.RANGE);
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (range != null && (ifRange == null || ifRange.equals(etag))) {
+			Matcher m = RANGE.matcher(range.trim());
+			if (m.matches() && !(m.group(1).isEmpty() && m.group(2).isEmpty())) {
+				if (m.group(1).isEmpty()) { // bytes=-N (마지막 N바이트)
+					start = Math.max(0, size - parse(m.group(2)));
+				} else {
+					start = parse(m.group(1));
+					end = m.group(2).isEmpty() ? size : Math.min(size - 1, parse(m.group(2))) + 1;
+				}
+				if (start >= end) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+					response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+					return;
+				}
+				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+			}
+			// 여러 구간(bytes=0-1,5-9)은 지원하지 않고 전체를 보냄 (RFC 9110 허용)
+		}
+		response.setContentLengthLong(end - start);
+
+		if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+			return;
+		}
+		if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+			// 응답 후 톰캣이 sendfile(2)로 전송
+			request.setAttribute("org.apache.tomcat.sendfile.filename", file.toString());
+			request.setAttribute("org.apache.tomcat.sendfile.start", start);
+			request.setAttribute("org.apache.tomcat.sendfile.end", end);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			OutputStream out = response.getOutputStream();
+			WritableByteChannel target = Channels.newChannel(out);
+			long position = start;
+			while (position < end) {
+				long sent = channel.transferTo(position, end - position, target);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+			}
+			out.flush();
+		}
+	}
+
+	private static boolean isHidden(Path base, Path file, String... hidden) {
+		for (String dir : hidden) {
+			if (file.startsWith(base.resolve(dir))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean notModified(HttpServletRequest request, String etag, long modified) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch != null) { // If-None-Match가 있으면 If-Modified-Since는 무시
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		long since;
+		try {
+			since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		return since >= 0 && modified <= since;
+	}
+
+	// 예전 파일의 SHA-256 ETag (파일이 바뀌지 않는 한 한 번만 계산)
+	private String etagOf(Path file, long size, long modified) throws IOException {
+		Tag tag = etags.get(file);
+		if (tag != null && tag.size() == size && tag.modified() == modified) {
+			return tag.etag();
+		}
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		String etag = "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+		if (etags.size() >= MAX_ETAG_ENTRIES) {
+			etags.clear(); // 드문 경우라 전부 비우고 다시 채움
+		}
+		etags.put(file, new Tag(size, modified, etag));
+		return etag;
+	}
+
+	private static long parse(String digits) {
+		try {
+			return Long.parseLong(digits);
+		} catch (NumberFormatException e) {
+			return Long.MAX_VALUE; // 너무 큰 값 -> 범위 밖
+		}
+	}
+
+}
@@ -20,6 +20,9 @@ public class StepService {
     @Autowired
     private UserDAO userDAO; // ✅ 포인트 지급용
 
+    @Autowired
+    private UserCache userCache; // 포인트 변경 시 캐시 무효화용
+
     // 🔹 일별 저장 + 포인트 지급
     public void saveDailyStep(Step step) {
         // 1. 먼저 INSERT 또는 UPDATE
@@ -32,6 +35,7 @@ public class StepService {
         if (saved.getDistance() >= 1000 && !saved.isRewarded()) {
             // 4. 포인트 지급
             userDAO.addPoint(step.getUserId(), 100);
+            userCache.invalidate(step.getUserId());
 
             // 5. rewarded 상태 업데이트
             stepDAO.markRewarded(step.getUserId(), step.getWalkDate());
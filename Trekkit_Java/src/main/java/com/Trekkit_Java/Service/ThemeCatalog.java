@@ -0,0 +1,87 @@
+package com.Trekkit_Java.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.Trekkit_Java.DAO.ThemeDAO;
+import com.Trekkit_Java.DTO.OnlyTheme;
+import com.Trekkit_Java.DTO.Theme;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// 테마 목록 + 테마 상세 스냅샷 (테마는 운영자가 가끔 바꾸는 콘텐츠)
+// 시작할 때 전체를 읽어 두고, 테마를 고친 뒤 refresh()를 부르면 새 스냅샷으로 한 번에 교체
+// 응답 JSON의 해시를 ETag로 같이 들고 있어서 바뀌지 않았으면 304
+
+@Component
+public class ThemeCatalog {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@Autowired private ThemeDAO themeDAO;
+
+	// 응답 본문과 그 ETag
+	public record Entry<T>(T body, String etag) {}
+
+	private record Snapshot(Entry<List<OnlyTheme>> themes, Map<String, Entry<Theme>> details) {}
+
+	private volatile Snapshot snapshot;
+
+	@PostConstruct
+	public void init() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			System.err.println("ThemeCatalog: 초기 로딩 실패, 첫 조회 때 다시 시도합니다. " + e.getMessage());
+		}
+	}
+
+	// DB에서 다시 읽어 스냅샷 교체 (읽는 쪽은 항상 이전 또는 새 스냅샷 하나를 통째로 봄)
+	public void refresh() {
+		List<OnlyTheme> themes = List.copyOf(themeDAO.getThemes());
+		Map<String, Entry<Theme>> details = new HashMap<>();
+		for (Theme theme : themeDAO.getAllThemeDetails()) {
+			details.putIfAbsent(theme.getTheme_name(), entry(theme));
+		}
+		snapshot = new Snapshot(entry(themes), Map.copyOf(details));
+	}
+
+	public Entry<List<OnlyTheme>> themes() {
+		return current().themes();
+	}
+
+	// 이름으로 테마 상세, 없으면 null
+	public Entry<Theme> detail(String name) {
+		return current().details().get(name);
+	}
+
+	private Snapshot current() {
+		Snapshot s = snapshot;
+		if (s == null) {
+			synchronized (this) {
+				s = snapshot;
+				if (s == null) {
+					refresh();
+					s = snapshot;
+				}
+			}
+		}
+		return s;
+	}
+
+	private static <T> Entry<T> entry(T body) {
+		try {
+			return new Entry<>(body, "\"" + DigestUtils.md5DigestAsHex(MAPPER.writeValueAsBytes(body)) + "\"");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -1,21 +1,31 @@
 package com.Trekkit_Java.Service;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.Trekkit_Java.DAO.ThemeDAO;
+import com.Trekkit_Java.DTO.OnlyTheme;
 import com.Trekkit_Java.DTO.Theme;
 
 @Service
 public class ThemeService {
 	
 	@Autowired
-    private ThemeDAO themeDAO;
+    private ThemeCatalog themeCatalog;
+
+	// 스냅샷에서 조회 (DB 조회 없음)
+    public ThemeCatalog.Entry<Theme> getThemeDetail(String name) {
+        return themeCatalog.detail(name);
+    }
+
+    public ThemeCatalog.Entry<List<OnlyTheme>> getThemes() {
+        return themeCatalog.themes();
+    }
 
-	@Transactional(readOnly = true)
-    public Theme getThemeDetail(String name) {
-        return themeDAO.getThemeDetailByName(name);
+    // 테마를 고친 뒤 호출 (스냅샷 교체)
+    public void refresh() {
+        themeCatalog.refresh();
     }
 
 }
@@ -0,0 +1,195 @@
+package com.Trekkit_Java.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Util.DouglasPeucker;
+import com.Trekkit_Java.Util.TrailFile;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 로컬 등산로 저장소입니다.
+ * TrailImporter로 미리 변환해 둔 등산로 파일(LT_L_FRSTCLIMB)을 메모리 매핑하고,
+ * 등산로 범위(bbox)를 CELL_DEG 격자에 올려 두어 지도 범위 조회를 브이월드 호출 없이 처리합니다.
+ * 화면 1픽셀보다 작은 굴곡은 더글라스-포커로 줄여서 응답 크기를 줄입니다. (줌이 없으면 범위 크기로 1픽셀을 추정)
+ * 한 번에 돌려주는 등산로 수는 MAX_FEATURES로 제한하며, 넘으면 지도를 확대하도록 400으로 응답합니다.
+ * 파일이 없으면 isAvailable()이 false이고, 호출하는 쪽이 브이월드(VworldTileCache)로 대신 조회합니다.
+ */
+@Component
+public class TrailStore {
+
+    private static final double CELL_DEG = 0.05; // 격자 칸 크기 (약 5km)
+    private static final int VIEW_PIXELS = 1024; // 줌이 없을 때 범위가 그려진다고 보는 화면 크기 (픽셀)
+    private static final int MAX_FEATURES = 3000; // 한 요청에서 돌려주는 최대 등산로 수
+
+    private record Snapshot(TrailFile data, Map<Long, int[]> cells, int minX, int maxX, int minY, int maxY) {}
+
+    private final Path file;
+    private final int maxFeatures;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TrailStore(@Value("${file.upload.path}") String uploadPath, @Value("${trails.file:}") String trailsFile) {
+        this(uploadPath, trailsFile, MAX_FEATURES);
+    }
+
+    TrailStore(String uploadPath, String trailsFile, int maxFeatures) {
+        this.file = trailsFile.isBlank() ? Paths.get(uploadPath, "trails", "LT_L_FRSTCLIMB.bin") : Paths.get(trailsFile);
+        this.maxFeatures = maxFeatures;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (IOException e) {
+            System.err.println("TrailStore: 등산로 파일 로딩 실패, 브이월드로 조회합니다. " + e.getMessage());
+        }
+    }
+
+    /**
+     * 등산로 파일을 다시 읽어 교체합니다. (TrailImporter로 새 파일을 만든 뒤 관리자 API /hiking-course/refresh로 호출)
+     * 파일이 없으면 로컬 저장소를 끄고 브이월드 조회로 돌아갑니다.
+     */
+    public synchronized void reload() throws IOException {
+        if (!Files.exists(file)) {
+            snapshot = null;
+            return;
+        }
+        TrailFile data = TrailFile.open(file);
+        Map<Long, List<Integer>> building = new HashMap<>();
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int t = 0; t < data.count(); t++) {
+            minX = Math.min(minX, cell(data.minLng(t)));
+            maxX = Math.max(maxX, cell(data.maxLng(t)));
+            minY = Math.min(minY, cell(data.minLat(t)));
+            maxY = Math.max(maxY, cell(data.maxLat(t)));
+            for (int y = cell(data.minLat(t)); y <= cell(data.maxLat(t)); y++) {
+                for (int x = cell(data.minLng(t)); x <= cell(data.maxLng(t)); x++) {
+                    building.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(t);
+                }
+            }
+        }
+        Map<Long, int[]> cells = new HashMap<>(building.size() * 2);
+        building.forEach((k, trails) -> cells.put(k, trails.stream().mapToInt(Integer::intValue).toArray()));
+        snapshot = new Snapshot(data, cells, minX, maxX, minY, maxY);
+        System.out.println("TrailStore: 등산로 " + data.count() + "건 로딩 (" + file + ")");
+    }
+
+    public boolean isAvailable() {
+        return snapshot != null;
+    }
+
+    /**
+     * 범위와 겹치는 등산로를 반환합니다.
+     * @param zoom 지도 줌 레벨 (웹 메르카토르 0~20), null이면 범위가 VIEW_PIXELS 크기로 그려진다고 보고 단순화.
+     * @return 브이월드 GetFeature 응답과 같은 형식의 JSON 문자열.
+     * @throws IllegalArgumentException 범위가 올바르지 않거나 등산로가 MAX_FEATURES개보다 많은 경우.
+     */
+    public String getTrails(double minLat, double minLng, double maxLat, double maxLng, Integer zoom) {
+        // NaN도 걸러지도록 부정형으로 비교
+        if (!(minLat <= maxLat && minLng <= maxLng && minLat >= -90 && maxLat <= 90 && minLng >= -180 && maxLng <= 180)) {
+            throw new IllegalArgumentException("범위가 올바르지 않습니다.");
+        }
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("로컬 등산로 파일이 없습니다.");
+        }
+        TrailFile data = s.data();
+        double tolerance = zoom != null
+                ? 360.0 / (256 * Math.pow(2, Math.max(0, Math.min(zoom, 22)))) // 1픽셀 크기 (도)
+                : Math.max(maxLat - minLat, maxLng - minLng) / VIEW_PIXELS;
+
+        StringBuilder features = new StringBuilder();
+        BitSet seen = new BitSet(data.count()); // 여러 칸에 걸친 등산로는 한 번만
+        int found = 0;
+        // 등산로가 있는 범위 밖의 칸은 보지 않음
+        int fromX = Math.max(cell(minLng), s.minX()), toX = Math.min(cell(maxLng), s.maxX());
+        int fromY = Math.max(cell(minLat), s.minY()), toY = Math.min(cell(maxLat), s.maxY());
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+                int[] trails = s.cells().get(key(x, y));
+                if (trails == null) {
+                    continue;
+                }
+                for (int t : trails) {
+                    if (seen.get(t)) {
+                        continue;
+                    }
+                    seen.set(t);
+                    if (data.maxLng(t) < minLng || data.minLng(t) > maxLng || data.maxLat(t) < minLat || data.minLat(t) > maxLat) {
+                        continue;
+                    }
+                    if (found == maxFeatures) {
+                        throw new IllegalArgumentException("조회 범위가 너무 넓습니다. 지도를 확대해 주세요.");
+                    }
+                    if (found++ > 0) {
+                        features.append(',');
+                    }
+                    appendFeature(features, data, t, tolerance);
+                }
+            }
+        }
+
+        return "{\"response\":{\"status\":\"" + (found == 0 ? "NOT_FOUND" : "OK") + "\","
+                + "\"result\":{\"featureCollection\":{\"type\":\"FeatureCollection\",\"features\":[" + features + "]}}}}";
+    }
+
+    // 저장된 feature JSON 끝에 단순화한 geometry를 붙임
+    private static void appendFeature(StringBuilder sb, TrailFile data, int trail, double tolerance) {
+        String json = data.json(trail);
+        int end = json.lastIndexOf('}');
+        sb.append(json, 0, end);
+        if (json.substring(0, end).trim().length() > 1) {
+            sb.append(',');
+        }
+        sb.append("\"geometry\":{\"type\":\"MultiLineString\",\"coordinates\":[");
+        int firstPart = data.firstPart(trail);
+        for (int p = firstPart; p < firstPart + data.partCount(trail); p++) {
+            int first = data.firstVertex(p), count = data.vertexCount(p);
+            float[] xy = new float[count * 2];
+            for (int v = 0; v < count; v++) {
+                xy[2 * v] = data.lng(first + v);
+                xy[2 * v + 1] = data.lat(first + v);
+            }
+            boolean[] keep = DouglasPeucker.simplify(xy, tolerance);
+            if (p > firstPart) {
+                sb.append(',');
+            }
+            sb.append('[');
+            boolean firstPoint = true;
+            for (int v = 0; v < count; v++) {
+                if (!keep[v]) {
+                    continue;
+                }
+                if (!firstPoint) {
+                    sb.append(',');
+                }
+                sb.append('[').append(xy[2 * v]).append(',').append(xy[2 * v + 1]).append(']');
+                firstPoint = false;
+            }
+            sb.append(']');
+        }
+        sb.append("]}}");
+    }
+
+    private static int cell(double deg) {
+        return (int) Math.floor(deg / CELL_DEG);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+}
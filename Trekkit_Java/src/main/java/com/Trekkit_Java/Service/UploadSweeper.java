@@ -0,0 +1,179 @@
+package com.Trekkit_Java.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.ImageRefDAO;
+
+import jakarta.annotation.PreDestroy;
+
+// 아무도 참조하지 않는 업로드 파일 정리 (UploadSweepScheduler가 주기적으로 호출)
+// 한 번 호출에 최대 batchSize개 항목만 보고 다음 호출에서 이어서 봄 (폴더 목록 위치를 들고 있음)
+// 한 바퀴 시작할 때 참조 중인 경로(post_images + user.profile)를 한 번에 읽어 Set으로 비교하고,
+// 지우기 직전에 한 번 더 DB로 확인 (바퀴 도중에 새 글에 붙은 파일 보호)
+// 업로드 직후 아직 글에 붙지 않은 파일이 있으므로 graceMillis보다 오래된 파일만 지움
+// 내용 주소 이미지는 원본/중간/썸네일을 원본 기준으로 한꺼번에 판단하고 ImagePipeline 잠금 안에서 지움
+
+@Component
+public class UploadSweeper {
+
+	private static final int BATCH_SIZE = 500; // 한 번 호출에 보는 항목 수
+	private static final long GRACE_MILLIS = 1000L * 60 * 60 * 24; // 업로드 후 하루 동안은 지우지 않음
+
+	// 업로드 코드가 만든 파일 이름 (UUID 또는 SHA-256으로 시작), 업로드 폴더 설정이 잘못돼도 다른 파일은 건드리지 않음
+	private static final Pattern UPLOAD_NAME = Pattern.compile("^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64}).*");
+
+	// 한 번 호출 결과
+	public record Batch(int scanned, int deleted, boolean passCompleted) {}
+
+	// 정리 대상 폴더 (urlPrefix: DB에 저장되는 경로 앞부분, skip: 건너뛸 하위 폴더)
+	private record Root(Path path, String urlPrefix, List<String> skip) {}
+
+	private record Dir(Root root, Path path) {}
+
+	private final ImageRefDAO imageRefDAO;
+	private final ImagePipeline imagePipeline;
+	private final List<Root> roots;
+	private final int batchSize;
+	private final long graceMillis;
+
+	// 이어서 볼 위치
+	private final Deque<Dir> pending = new ArrayDeque<>();
+	private Dir current;
+	private DirectoryStream<Path> stream;
+	private Iterator<Path> entries;
+	private Set<String> referenced; // null이면 다음 호출에서 새 바퀴 시작
+
+	@Autowired
+	public UploadSweeper(ImageRefDAO imageRefDAO, ImagePipeline imagePipeline, @Value("${file.upload.path}") String uploadPath) {
+		this(imageRefDAO, imagePipeline, Paths.get(uploadPath), Paths.get(System.getProperty("user.dir"), "uploads", "profile"),
+				BATCH_SIZE, GRACE_MILLIS);
+	}
+
+	UploadSweeper(ImageRefDAO imageRefDAO, ImagePipeline imagePipeline, Path uploadRoot, Path profileRoot,
+			int batchSize, long graceMillis) {
+		this.imageRefDAO = imageRefDAO;
+		this.imagePipeline = imagePipeline;
+		// 업로드 폴더 안의 브이월드 타일 캐시와 등산로 파일은 업로드가 아님
+		this.roots = List.of(
+				new Root(uploadRoot.toAbsolutePath().normalize(), "/uploads/", List.of("cache", "trails")),
+				new Root(profileRoot.toAbsolutePath().normalize(), "/profile/", List.of()));
+		this.batchSize = batchSize;
+		this.graceMillis = graceMillis;
+	}
+
+	@PreDestroy
+	public synchronized void close() {
+		closeStream();
+	}
+
+	public synchronized Batch sweep() {
+		if (referenced == null) {
+			referenced = new HashSet<>(imageRefDAO.findAllReferencedPaths());
+			pending.clear();
+			roots.forEach(root -> pending.add(new Dir(root, root.path())));
+		}
+
+		int scanned = 0, deleted = 0;
+		while (scanned < batchSize) {
+			if (entries == null || !entries.hasNext()) {
+				closeStream();
+				current = pending.poll();
+				if (current == null) {
+					referenced = null; // 한 바퀴 끝
+					return new Batch(scanned, deleted, true);
+				}
+				try {
+					if (Files.isDirectory(current.path())) {
+						stream = Files.newDirectoryStream(current.path());
+						entries = stream.iterator();
+					}
+				} catch (IOException e) {
+					System.err.println("UploadSweeper: 폴더 읽기 실패 (" + current.path() + "): " + e.getMessage());
+				}
+				continue;
+			}
+
+			Path entry = entries.next();
+			scanned++;
+			Root root = current.root();
+			if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+				if (!skipped(root, entry)) {
+					pending.add(new Dir(root, entry));
+				}
+				continue;
+			}
+			try {
+				deleted += sweepFile(root, entry);
+			} catch (IOException e) {
+				System.err.println("UploadSweeper: 삭제 실패 (" + entry + "): " + e.getMessage());
+			}
+		}
+		return new Batch(scanned, deleted, false);
+	}
+
+	// 건너뛸 하위 폴더이거나, 다른 정리 대상 폴더(예: uploads/profile)이면 여기서는 보지 않음
+	private boolean skipped(Root root, Path dir) {
+		if (dir.getParent().equals(root.path()) && root.skip().contains(dir.getFileName().toString())) {
+			return true;
+		}
+		return roots.stream().anyMatch(other -> other != root && other.path().equals(dir));
+	}
+
+	// 파일 하나를 보고 지운 파일 수를 반환
+	private int sweepFile(Root root, Path file) throws IOException {
+		String name = file.getFileName().toString();
+		if (!UPLOAD_NAME.matcher(name).matches() || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+			return 0;
+		}
+		String url = originalOf(root.urlPrefix() + root.path().relativize(file).toString().replace('\\', '/'));
+		if (!name.endsWith(".tmp") && ImagePipeline.isContentAddressed(url)) {
+			// 변형 파일의 수정 시각은 재사용 시점을 반영하지 못할 수 있으므로 원본 기준으로 세 파일을 같이 판단
+			return referenced.contains(url) ? 0 : imagePipeline.deleteIfUnreferenced(url, graceMillis);
+		}
+		if (System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis() <= graceMillis) {
+			return 0;
+		}
+		// 쓰다가 중단된 임시 파일, 또는 아무도 참조하지 않는 예전 업로드
+		if (name.endsWith(".tmp") || (!referenced.contains(url) && imageRefDAO.countReferences(url) == 0)) {
+			return Files.deleteIfExists(file) ? 1 : 0;
+		}
+		return 0;
+	}
+
+	// 중간/썸네일 파일은 원본 경로로 판단 (원본이 참조되면 같이 남김)
+	private static String originalOf(String url) {
+		if (url.startsWith(ImagePipeline.POST_IMAGE_URL) && (url.endsWith("_m.jpg") || url.endsWith("_t.jpg"))) {
+			return url.substring(0, url.length() - 6) + ".jpg";
+		}
+		return url;
+	}
+
+	private void closeStream() {
+		if (stream != null) {
+			try {
+				stream.close();
+			} catch (IOException e) {
+				// 닫기 실패는 무시
+			}
+		}
+		stream = null;
+		entries = null;
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.Trekkit_Java.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.LoginDAO;
+import com.Trekkit_Java.DTO.User;
+import com.Trekkit_Java.Util.AfterCommit;
+
+// 인증된 요청마다 ld.findById를 하지 않도록 유저 정보를 잠깐 들고 있는 캐시
+// 프로필 수정, 비밀번호 변경, 포인트 지급, 탈퇴 시 invalidate 해줘야 함
+// DB에서 읽는 동안 invalidate가 끼어들면 읽은 값(커밋 전 옛날 값일 수 있음)은 캐시에 넣지 않음 (generation 비교)
+
+@Component
+public class UserCache {
+
+	private static final long TTL_MILLIS = 1000L * 60 * 5; // 5분 지나면 DB에서 다시 읽음
+	private static final int MAX_SIZE = 10000; // 최대 유저 수
+
+	@Autowired private LoginDAO ld;
+
+	private final LongSupplier clock;
+
+	private record Entry(User user, long loadedAt) {
+	}
+
+	private final Map<Long, Entry> users = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong(); // invalidate 할 때마다 증가
+
+	public UserCache() {
+		this(System::currentTimeMillis);
+	}
+
+	// 테스트용 (시계 주입)
+	UserCache(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	// 캐시에 있으면 그대로, 없거나 만료됐으면 DB 조회 (없는 유저는 null, 캐시 안 함)
+	public User get(long id) {
+		Entry entry = users.get(id);
+		if (entry != null && !expired(entry)) {
+			return entry.user();
+		}
+
+		long seen = generation.get(); // 조회 전에 읽어야 이후의 invalidate를 놓치지 않음
+		User user = ld.findById(id);
+		if (user == null) {
+			users.remove(id);
+			return null;
+		}
+		if (users.size() >= MAX_SIZE) {
+			evict();
+		}
+		Entry loaded = new Entry(user, clock.getAsLong());
+		// invalidate는 generation을 올린 뒤 지우므로, 같은 키의 compute 안에서 비교하면 지우기 전/후 어느 쪽이든 옛날 값이 남지 않음
+		users.compute(id, (k, current) -> generation.get() == seen ? loaded : current);
+		return user;
+	}
+
+	// 유저 정보가 바뀌었을 때 호출 (트랜잭션 안이면 커밋 후에 지움)
+	public void invalidate(long id) {
+		AfterCommit.run(() -> {
+			generation.incrementAndGet();
+			users.remove(id);
+		});
+	}
+
+	// 로그인 아이디로만 알 수 있는 경우 (비밀번호 찾기 등)
+	public void invalidateByUserid(String userid) {
+		AfterCommit.run(() -> {
+			generation.incrementAndGet();
+			users.values().removeIf(entry -> userid.equals(entry.user().getUserid()));
+		});
+	}
+
+	private boolean expired(Entry entry) {
+		return clock.getAsLong() - entry.loadedAt() > TTL_MILLIS;
+	}
+
+	// 만료된 것부터 지우고 그래도 가득 차 있으면 전부 비움
+	private void evict() {
+		users.values().removeIf(this::expired);
+		if (users.size() >= MAX_SIZE) {
+			users.clear();
+		}
+	}
+
+}
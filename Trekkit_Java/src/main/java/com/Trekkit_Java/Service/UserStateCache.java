@@ -0,0 +1,129 @@
+package com.Trekkit_Java.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.Util.AfterCommit;
+
+/**
+ * 사용자별로 최근 조회한 좋아요/북마크 상태를 잠시 보관하는 캐시입니다.
+ * 피드를 스크롤하며 같은 게시글의 상태를 반복해서 묻더라도 매번 IN 쿼리를 실행하지 않도록 합니다.
+ *
+ * 상태는 비트 플래그(int)로 저장되며 의미는 호출하는 쪽에서 정합니다. (예: 1 = 좋아요, 2 = 북마크)
+ * 키에 값이 있으면 "상태를 알고 있음"(0이면 아무것도 누르지 않음), 값이 없으면 DB 조회가 필요함을 뜻합니다.
+ * 사용자 수는 MAX_USERS로 제한되며(LRU), 각 사용자의 항목은 TTL_MILLIS가 지나면 통째로 버립니다.
+ */
+@Component
+public class UserStateCache {
+
+    private static final int MAX_USERS = 10000; // 캐시에 보관할 최대 (구분, 사용자) 수
+    private static final long TTL_MILLIS = 60_000L; // 사용자별 항목 유효 시간 (1분)
+
+    /** 한 사용자의 대상 ID -> 상태 플래그 묶음입니다. */
+    private static class Entry {
+        final long loadedAt = System.currentTimeMillis();
+        final Map<Long, Integer> flags = new ConcurrentHashMap<>();
+
+        boolean expired() {
+            return System.currentTimeMillis() - loadedAt > TTL_MILLIS;
+        }
+    }
+
+    // "구분:사용자ID" -> Entry (접근 순서 LRU)
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+
+    /**
+     * 여러 대상의 상태를 반환합니다. 캐시에 있는 상태는 바로 쓰고, 없는 대상만 loader로 한 번에 조회해 캐시에 저장합니다.
+     * @param kind 대상 구분 (예: "post", "question").
+     * @param userId 사용자 ID.
+     * @param ids 상태를 알고 싶은 대상 ID 목록.
+     * @param loader 캐시에 없는 대상 ID 목록 -> 상태가 있는 대상의 플래그 (DB 조회, 결과에 없는 대상은 0으로 저장됩니다).
+     * @return 대상 ID -> 상태 플래그 (ids 전체).
+     */
+    public Map<Long, Integer> load(String kind, long userId, Collection<Long> ids,
+            Function<List<Long>, Map<Long, Integer>> loader) {
+        Map<Long, Integer> states = getKnown(kind, userId, ids); // 캐시에 있는 상태
+        List<Long> missing = new ArrayList<>(); // 캐시에 없어 DB에서 조회해야 하는 대상 ID
+        for (Long id : ids) {
+            if (!states.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> loaded = new HashMap<>();
+            for (Long id : missing) {
+                loaded.put(id, 0); // 결과에 없는 대상은 아무것도 누르지 않은 상태입니다.
+            }
+            loaded.putAll(loader.apply(missing));
+            entry(kind, userId, true).flags.putAll(loaded); // 조회한 상태를 캐시에 저장합니다.
+            states.putAll(loaded);
+        }
+        for (Long id : ids) {
+            states.putIfAbsent(id, 0);
+        }
+        return states;
+    }
+
+    // 캐시에 있는 상태만 반환합니다. 결과에 없는 ID는 DB에서 조회해야 합니다.
+    private Map<Long, Integer> getKnown(String kind, long userId, Collection<Long> ids) {
+        Map<Long, Integer> known = new HashMap<>();
+        Entry entry = entry(kind, userId, false);
+        if (entry != null) {
+            for (Long id : ids) {
+                Integer flags = entry.flags.get(id);
+                if (flags != null) {
+                    known.put(id, flags);
+                }
+            }
+        }
+        return known;
+    }
+
+    /**
+     * 토글 등으로 바뀐 상태 비트 하나를 반영합니다. 캐시에 상태가 없는 대상은 그대로 둡니다. (다음 조회 때 DB에서 읽음)
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영됩니다. (롤백된 좋아요/북마크가 캐시에 남지 않도록)
+     * @param kind 대상 구분.
+     * @param userId 사용자 ID.
+     * @param id 대상 ID.
+     * @param flag 바뀐 비트 (예: 1 = 좋아요).
+     * @param on 비트를 켤지(true) 끌지(false).
+     */
+    public void update(String kind, long userId, long id, int flag, boolean on) {
+        AfterCommit.run(() -> {
+            Entry entry = entry(kind, userId, false);
+            if (entry != null) {
+                entry.flags.computeIfPresent(id, (k, flags) -> on ? flags | flag : flags & ~flag);
+            }
+        });
+    }
+
+    // 만료된 항목은 버리고, create가 true면 새 항목을 만듭니다.
+    private Entry entry(String kind, long userId, boolean create) {
+        String key = kind + ":" + userId;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expired()) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null && create) {
+                entry = new Entry();
+                entries.put(key, entry);
+            }
+            return entry;
+        }
+    }
+}
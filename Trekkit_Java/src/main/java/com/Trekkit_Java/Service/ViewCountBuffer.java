@@ -0,0 +1,130 @@
+package com.Trekkit_Java.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.DAO.NoticeDAO;
+import com.Trekkit_Java.DAO.PostDAO;
+import com.Trekkit_Java.DAO.QnaDAO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글, Q&A 질문, 공지사항의 조회수 증가분을 메모리에 모았다가 한꺼번에 DB에 반영하는 버퍼입니다.
+ * 상세 조회마다 `UPDATE ... SET view_count = view_count + 1`을 실행하면 인기 글의 같은 행에 잠금이 몰리므로,
+ * 조회 시에는 LongAdder만 증가시키고 ViewCountScheduler가 주기적으로 대상별 한 번의 UPDATE로 반영합니다.
+ * 애플리케이션 종료 시 남아 있는 증가분도 모두 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    /** 조회수를 모으는 대상 종류입니다. */
+    public enum Target { POST, QUESTION, NOTICE }
+
+    private final PostDAO postDAO;
+    private final QnaDAO qnaDAO;
+    private final NoticeDAO noticeDAO;
+
+    // 대상 종류 -> (ID -> 아직 반영되지 않은 조회수 증가분)
+    private final Map<Target, Map<Long, LongAdder>> pending = createPending();
+
+    // 대상 종류 -> 지난 flush 때 증가분이 0이었던 ID (다음 flush에도 0이면 버퍼에서 제거, flush에서만 사용)
+    private final Map<Target, Set<Long>> idle = new EnumMap<>(Target.class);
+
+    private static Map<Target, Map<Long, LongAdder>> createPending() {
+        Map<Target, Map<Long, LongAdder>> map = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            map.put(target, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. DB에는 다음 flush 때 반영됩니다.
+     * @param target 대상 종류.
+     * @param id 대상 ID.
+     */
+    public void increment(Target target, long id) {
+        pending.get(target).computeIfAbsent(id, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+     * 상세 조회 응답의 조회수를 DB 값 + 증가분으로 보여줄 때 사용합니다.
+     * @param target 대상 종류.
+     * @param id 대상 ID.
+     * @return 반영 대기 중인 증가분.
+     */
+    public long pendingCount(Target target, long id) {
+        LongAdder adder = pending.get(target).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 모아 둔 증가분을 대상 종류별로 한 번의 UPDATE로 DB에 반영합니다.
+     * 반영에 실패하면 증가분을 버퍼에 되돌려 다음 flush 때 다시 시도합니다.
+     */
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            Map<Long, Long> deltas = drain(pending.get(target), idle.computeIfAbsent(target, t -> new HashSet<>()));
+            if (deltas.isEmpty()) {
+                continue;
+            }
+            try {
+                switch (target) {
+                    case POST -> postDAO.addViewCounts(deltas);
+                    case QUESTION -> qnaDAO.addQuestionViewCounts(deltas);
+                    case NOTICE -> noticeDAO.addViewCounts(deltas);
+                }
+            } catch (RuntimeException e) {
+                // 반영 실패 시 증가분을 되돌려 놓습니다.
+                deltas.forEach((id, delta) ->
+                        pending.get(target).computeIfAbsent(id, k -> new LongAdder()).add(delta));
+                System.err.println("ViewCountBuffer: 조회수 반영 실패 (" + target + "): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 증가분을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 버퍼에서 증가분을 꺼냅니다. 항목은 그대로 두고 sumThenReset으로 꺼내므로 그 사이의 증가분도 다음 flush에 반영됩니다.
+    // 두 번 연속 증가분이 0인(한 주기 동안 조회되지 않은) 항목만 제거하여 조회된 적 있는 모든 ID가 메모리에 쌓이지 않도록 합니다.
+    private static Map<Long, Long> drain(Map<Long, LongAdder> counters, Set<Long> idle) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            Long id = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+                idle.remove(id);
+            } else if (idle.remove(id)) {
+                if (counters.remove(id, adder)) {
+                    long late = adder.sumThenReset(); // 제거와 겹친 증가분
+                    if (late > 0) {
+                        deltas.put(id, late);
+                    }
+                }
+            } else {
+                idle.add(id);
+            }
+        }
+        idle.retainAll(counters.keySet());
+        return deltas;
+    }
+}
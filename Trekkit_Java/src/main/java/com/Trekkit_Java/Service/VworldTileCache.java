@@ -0,0 +1,289 @@
+package com.Trekkit_Java.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.Trekkit_Java.ExternalAPI.VworldTrailSource;
+import com.Trekkit_Java.Util.DouglasPeucker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 브이월드 등산로 조회 결과를 고정 격자(타일) 단위로 캐시하는 프록시입니다.
+ * 요청 범위(bbox)를 TILE_DEG 크기의 타일로 나누고, 타일별 등산로(feature 목록)를
+ * 메모리 LRU -> 디스크({file.upload.path}/cache/vworld) -> 브이월드 순서로 찾습니다.
+ * 같은 타일을 동시에 요청하면 브이월드에는 한 번만 요청하고 결과를 나눠 씁니다.
+ * 타일 결과는 하나의 GeoJSON FeatureCollection(브이월드 응답 형식)으로 합쳐서 반환합니다.
+ *
+ * 범위가 넓어(지도 축소) 타일이 MAX_TILES_PER_REQUEST개를 넘으면 타일 크기를 2배씩 키운 상위 레벨 타일을 쓰고,
+ * 상위 레벨 타일은 타일 1/256(약 화면 1픽셀)보다 작은 굴곡을 더글라스-포커로 줄여서 보관합니다.
+ * 브이월드 응답은 페이지 단위(PAGE_SIZE건)이므로 마지막 페이지까지 받아서 합치며,
+ * MAX_PAGES를 넘어 잘린 타일은 이번 응답에만 쓰고 캐시하지 않습니다.
+ */
+@Component
+public class VworldTileCache {
+
+    private static final double TILE_DEG = 0.05; // 타일 크기 (약 5km)
+    private static final int MAX_TILES_PER_REQUEST = 64; // 한 요청에서 허용하는 타일 수
+    private static final int MAX_LEVEL = 5; // 가장 큰 상위 레벨 (타일 크기 TILE_DEG * 2^5 = 1.6도)
+    private static final int MAX_PAGES = 10; // 타일 하나에서 받는 최대 페이지 수
+    private static final int MAX_MEMORY_TILES = 512; // 메모리에 보관할 타일 수
+    private static final long TTL_MILLIS = 1000L * 60 * 60 * 24 * 7; // 타일 유효 기간 (7일, 등산로는 거의 바뀌지 않음)
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private record Tile(ArrayNode features, long loadedAt) {
+        boolean expired() {
+            return System.currentTimeMillis() - loadedAt > TTL_MILLIS;
+        }
+    }
+
+    private record Fetched(ArrayNode features, boolean complete) {} // complete: 마지막 페이지까지 받았는지
+
+    private final VworldTrailSource source;
+    private final Path cacheDir;
+
+    // 타일 키 -> 등산로 (접근 순서 LRU)
+    private final Map<String, Tile> memory = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Tile> eldest) {
+            return size() > MAX_MEMORY_TILES;
+        }
+    };
+
+    // 브이월드에 요청 중인 타일 (같은 타일 동시 요청을 하나로 합침)
+    private final Map<String, CompletableFuture<ArrayNode>> inFlight = new ConcurrentHashMap<>();
+
+    public VworldTileCache(VworldTrailSource source, @Value("${file.upload.path}") String uploadPath) {
+        this.source = source;
+        this.cacheDir = Paths.get(uploadPath, "cache", "vworld");
+    }
+
+    /**
+     * 요청 범위와 겹치는 모든 타일의 등산로를 합쳐 반환합니다.
+     * 범위가 넓으면 타일 수가 MAX_TILES_PER_REQUEST 이하가 되는 상위 레벨(단순화된 등산로)로 조회합니다.
+     * @return 브이월드 GetFeature 응답과 같은 형식의 JSON 문자열.
+     * @throws IllegalArgumentException 범위가 올바르지 않거나 가장 큰 상위 레벨로도 너무 넓은 경우.
+     * @throws IOException 브이월드 호출이 실패한 경우.
+     */
+    public String getTrails(double minLat, double minLng, double maxLat, double maxLng) throws IOException {
+        if (!(minLat <= maxLat && minLng <= maxLng)) {
+            throw new IllegalArgumentException("범위가 올바르지 않습니다.");
+        }
+        int level = 0;
+        while (tileCount(level, minLat, minLng, maxLat, maxLng) > MAX_TILES_PER_REQUEST) {
+            if (++level > MAX_LEVEL) {
+                throw new IllegalArgumentException("조회 범위가 너무 넓습니다. 지도를 확대해 주세요.");
+            }
+        }
+        int fromX = tile(level, minLng), toX = tile(level, maxLng);
+        int fromY = tile(level, minLat), toY = tile(level, maxLat);
+
+        ArrayNode merged = MAPPER.createArrayNode();
+        Set<String> seen = new HashSet<>(); // 타일 경계에 걸친 등산로는 여러 타일에 들어 있으므로 한 번만
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+                for (JsonNode feature : tile(level, x, y)) {
+                    if (seen.add(featureKey(feature))) {
+                        merged.add(feature);
+                    }
+                }
+            }
+        }
+
+        ObjectNode collection = MAPPER.createObjectNode();
+        collection.put("type", "FeatureCollection");
+        collection.set("features", merged);
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        response.put("status", merged.isEmpty() ? "NOT_FOUND" : "OK");
+        response.putObject("result").set("featureCollection", collection);
+        return MAPPER.writeValueAsString(root);
+    }
+
+    // 타일 하나의 등산로 (메모리 -> 디스크 -> 브이월드)
+    private ArrayNode tile(int level, int x, int y) throws IOException {
+        String key = level == 0 ? x + "_" + y : "L" + level + "_" + x + "_" + y; // 레벨 0은 기존 디스크 캐시 이름 그대로
+        Tile cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null && !cached.expired()) {
+            return cached.features();
+        }
+
+        CompletableFuture<ArrayNode> mine = new CompletableFuture<>();
+        CompletableFuture<ArrayNode> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running); // 다른 요청이 가져오는 중이면 그 결과를 기다림
+        }
+        try {
+            ArrayNode features = readDisk(key);
+            boolean complete = true;
+            if (features == null) {
+                Fetched fetched = fetch(level, x, y);
+                features = fetched.features();
+                complete = fetched.complete();
+                if (complete) {
+                    writeDisk(key, features);
+                }
+            }
+            if (complete) {
+                synchronized (memory) {
+                    memory.put(key, new Tile(features, System.currentTimeMillis()));
+                }
+            }
+            mine.complete(features);
+            return features;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 마지막 페이지까지 받아서 합침 (MAX_PAGES를 넘으면 잘린 채로 complete = false)
+    private Fetched fetch(int level, int x, int y) throws IOException {
+        double deg = tileDeg(level);
+        double minLng = x * deg, minLat = y * deg;
+        ArrayNode features = MAPPER.createArrayNode();
+        for (int page = 1; ; page++) {
+            String body = source.fetchTrails(minLng, minLat, minLng + deg, minLat + deg, page);
+            JsonNode response = MAPPER.readTree(body).path("response");
+            String status = response.path("status").asText();
+            if ("NOT_FOUND".equals(status)) {
+                break; // 등산로 없는 타일도 캐시
+            }
+            if (!"OK".equals(status)) {
+                throw new IOException("브이월드 응답 오류: " + response.path("error").path("text").asText(status));
+            }
+            JsonNode found = response.path("result").path("featureCollection").path("features");
+            if (found.isArray()) {
+                features.addAll((ArrayNode) found);
+            }
+            // 전체 페이지 수가 없으면 꽉 찬 페이지일 때 다음 페이지가 있다고 봄
+            int total = response.path("page").path("total").asInt(0);
+            boolean more = total > 0 ? page < total : found.size() >= VworldTrailSource.PAGE_SIZE;
+            if (!more) {
+                break;
+            }
+            if (page == MAX_PAGES) {
+                System.err.println("VworldTileCache: 등산로가 너무 많아 " + MAX_PAGES + "페이지까지만 받았습니다. (레벨 " + level + ", " + x + "_" + y + ")");
+                return new Fetched(simplify(features, level), false);
+            }
+        }
+        return new Fetched(simplify(features, level), true);
+    }
+
+    // 상위 레벨 타일은 타일 크기 / 256 (약 화면 1픽셀)보다 작은 굴곡을 줄임
+    private static ArrayNode simplify(ArrayNode features, int level) {
+        if (level == 0) {
+            return features;
+        }
+        double tolerance = tileDeg(level) / 256;
+        for (JsonNode feature : features) {
+            if (!(feature.path("geometry") instanceof ObjectNode geometry)) {
+                continue;
+            }
+            JsonNode coordinates = geometry.path("coordinates");
+            switch (geometry.path("type").asText()) {
+                case "LineString" -> geometry.set("coordinates", simplifyLine(coordinates, tolerance));
+                case "MultiLineString" -> {
+                    ArrayNode parts = MAPPER.createArrayNode();
+                    coordinates.forEach(line -> parts.add(simplifyLine(line, tolerance)));
+                    geometry.set("coordinates", parts);
+                }
+                default -> {
+                }
+            }
+        }
+        return features;
+    }
+
+    private static ArrayNode simplifyLine(JsonNode line, double tolerance) {
+        float[] xy = new float[line.size() * 2];
+        for (int i = 0; i < line.size(); i++) {
+            xy[2 * i] = (float) line.get(i).path(0).asDouble();
+            xy[2 * i + 1] = (float) line.get(i).path(1).asDouble();
+        }
+        boolean[] keep = DouglasPeucker.simplify(xy, tolerance);
+        ArrayNode kept = MAPPER.createArrayNode();
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                kept.add(line.get(i));
+            }
+        }
+        return kept;
+    }
+
+    private ArrayNode readDisk(String key) {
+        Path file = cacheDir.resolve(key + ".json");
+        try {
+            if (Files.exists(file) && System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis() <= TTL_MILLIS) {
+                JsonNode node = MAPPER.readTree(file.toFile());
+                if (node.isArray()) {
+                    return (ArrayNode) node;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("VworldTileCache: 디스크 캐시 읽기 실패 (" + key + "): " + e.getMessage());
+        }
+        return null;
+    }
+
+    // 임시 파일에 쓰고 옮겨서 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+    private void writeDisk(String key, ArrayNode features) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, key, ".tmp");
+            MAPPER.writeValue(tmp.toFile(), features);
+            Files.move(tmp, cacheDir.resolve(key + ".json"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("VworldTileCache: 디스크 캐시 저장 실패 (" + key + "): " + e.getMessage());
+        }
+    }
+
+    private static ArrayNode await(CompletableFuture<ArrayNode> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    private static String featureKey(JsonNode feature) {
+        JsonNode id = feature.get("id");
+        return id != null && !id.isNull() ? id.asText() : feature.toString();
+    }
+
+    private static double tileDeg(int level) {
+        return TILE_DEG * (1 << level);
+    }
+
+    private static int tile(int level, double deg) {
+        return (int) Math.floor(deg / tileDeg(level));
+    }
+
+    private static long tileCount(int level, double minLat, double minLng, double maxLat, double maxLng) {
+        return (long) (tile(level, maxLng) - tile(level, minLng) + 1) * (tile(level, maxLat) - tile(level, minLat) + 1);
+    }
+}
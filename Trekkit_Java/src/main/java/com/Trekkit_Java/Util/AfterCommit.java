@@ -0,0 +1,26 @@
+package com.Trekkit_Java.Util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행
+// 롤백되면 실행하지 않음 (캐시 무효화, 메일 발송, 파일 정리처럼 DB 반영이 확정된 뒤에만 해야 하는 일)
+public class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	public static void run(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.Trekkit_Java.Util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션에서 사용하는 불투명(opaque) 커서 문자열을 만들고 해석하는 유틸리티입니다.
+ * 마지막 행의 정렬 키 값들을 '|'로 이어 붙인 뒤 URL-safe Base64로 인코딩합니다.
+ * 클라이언트는 커서의 내용을 해석하지 않고 다음 요청에 그대로 전달하기만 하면 됩니다.
+ */
+public class CursorCodec {
+
+	private static final String SEPARATOR = "|";
+
+	private CursorCodec() {}
+
+	/**
+	 * 정렬 키 값들을 커서 문자열로 인코딩합니다.
+	 * @param parts 커서에 담을 값들 (첫 번째 값으로 정렬 기준 등 구분자를 넣는 것을 권장합니다).
+	 * @return URL-safe Base64 커서 문자열.
+	 */
+	public static String encode(Object... parts) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0) sb.append(SEPARATOR);
+			sb.append(parts[i]);
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열을 정렬 키 값 배열로 디코딩합니다.
+	 * @param cursor 클라이언트가 전달한 커서 문자열.
+	 * @param expectedParts 커서에 들어 있어야 하는 값의 개수.
+	 * @return 디코딩된 값 배열.
+	 * @throws IllegalArgumentException 커서 형식이 올바르지 않을 경우 발생.
+	 */
+	public static String[] decode(String cursor, int expectedParts) {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+		String[] parts = decoded.split("\\" + SEPARATOR, -1);
+		if (parts.length != expectedParts) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+		return parts;
+	}
+
+	/**
+	 * 커서 값 하나를 long으로 변환합니다.
+	 * @throws IllegalArgumentException 숫자가 아닐 경우 발생.
+	 */
+	public static long parseLong(String part) {
+		try {
+			return Long.parseLong(part);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.Trekkit_Java.Util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// 더글라스-포커 선 단순화
+// 양 끝점을 잇는 선분에서 tolerance보다 멀리 떨어진 점만 남김 (재귀 대신 스택)
+
+public class DouglasPeucker {
+
+	// xy: lng, lat 교대 배열 / 반환: 남길 점 표시 (양 끝점은 항상 남김)
+	public static boolean[] simplify(float[] xy, double tolerance) {
+		int n = xy.length / 2;
+		boolean[] keep = new boolean[n];
+		if (n == 0) {
+			return keep;
+		}
+		keep[0] = true;
+		keep[n - 1] = true;
+		if (n < 3 || tolerance <= 0) {
+			Arrays.fill(keep, true);
+			return keep;
+		}
+
+		double tolSq = tolerance * tolerance;
+		Deque<int[]> stack = new ArrayDeque<>();
+		stack.push(new int[] { 0, n - 1 });
+		while (!stack.isEmpty()) {
+			int[] range = stack.pop();
+			int from = range[0], to = range[1];
+			double maxSq = -1;
+			int farthest = -1;
+			for (int i = from + 1; i < to; i++) {
+				double d = distanceSq(xy, i, from, to);
+				if (d > maxSq) {
+					maxSq = d;
+					farthest = i;
+				}
+			}
+			if (farthest >= 0 && maxSq > tolSq) {
+				keep[farthest] = true;
+				stack.push(new int[] { from, farthest });
+				stack.push(new int[] { farthest, to });
+			}
+		}
+		return keep;
+	}
+
+	// 점 p와 선분 a-b 사이 거리의 제곱
+	private static double distanceSq(float[] xy, int p, int a, int b) {
+		double px = xy[2 * p], py = xy[2 * p + 1];
+		double ax = xy[2 * a], ay = xy[2 * a + 1];
+		double dx = xy[2 * b] - ax, dy = xy[2 * b + 1] - ay;
+		double lenSq = dx * dx + dy * dy;
+		double t = lenSq == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lenSq));
+		double ex = px - (ax + t * dx), ey = py - (ay + t * dy);
+		return ex * ex + ey * ey;
+	}
+
+}
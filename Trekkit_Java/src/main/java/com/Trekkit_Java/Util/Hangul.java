@@ -0,0 +1,62 @@
+package com.Trekkit_Java.Util;
+
+public class Hangul {
+
+	private static final char FIRST = 0xAC00; // '가'
+	private static final char LAST = 0xD7A3; // '힣'
+	private static final int SYLLABLES_PER_CHOSEONG = 21 * 28; // 중성 21개 x 종성 28개
+
+	private static final char[] CHOSEONG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	// 한글 음절의 초성, 한글 음절이 아니면 그대로
+	// 쌍자음은 예사소리로 묶음 (ㄲ -> ㄱ, 기존 '가'~'나' 범위 검색과 같은 결과)
+	public static char initialOf(char c) {
+		if (c < FIRST || c > LAST) {
+			return foldTense(c);
+		}
+		return foldTense(CHOSEONG[(c - FIRST) / SYLLABLES_PER_CHOSEONG]);
+	}
+
+	// 문자열 전체를 초성 문자열로 변환 (ex. "북한산" -> "ㅂㅎㅅ"), 공백은 버리고 영문은 소문자로
+	public static String choseong(String value) {
+		if (value == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(initialOf(c)));
+			}
+		}
+		return sb.toString();
+	}
+
+	// 초성(자음)으로만 이루어진 검색어인지 (ex. "ㅂㅎ")
+	public static boolean isChoseongOnly(String value) {
+		if (value == null || value.isBlank()) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!Character.isWhitespace(c) && (c < 'ㄱ' || c > 'ㅎ')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static char foldTense(char c) {
+		switch (c) {
+			case 'ㄲ': return 'ㄱ';
+			case 'ㄸ': return 'ㄷ';
+			case 'ㅃ': return 'ㅂ';
+			case 'ㅆ': return 'ㅅ';
+			case 'ㅉ': return 'ㅈ';
+			default: return c;
+		}
+	}
+
+}
@@ -1,6 +1,12 @@
 package com.Trekkit_Java.Util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.SecretKey;
 
@@ -8,17 +14,27 @@ import org.springframework.stereotype.Component;
 
 import com.Trekkit_Java.Config.JwtProperties;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 
 //2025-06-05
 
 @Component
 public class JwtUtil {
 
+	// JwtAuthFilter가 검증한 클레임을 담아두는 request attribute 이름
+	public static final String CLAIMS_ATTRIBUTE = "trekkit.jwt.claims";
+
+	private static final int MAX_CACHE_SIZE = 10000; // 검증 캐시 최대 토큰 수
+
     private final SecretKey secretKey;
 
+    // 토큰 해시 -> 서명 검증이 끝난 클레임 (exp가 지나면 다시 검증)
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+
     // 생성자에서 주입받아서 SecretKey 생성
     public JwtUtil(JwtProperties jwtProperties) {
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
@@ -38,24 +54,80 @@ public class JwtUtil {
                 .compact();
     }
 
-    // 토큰 인증
+    // 토큰 인증 (발급자, 프론트 타입까지 확인)
     public boolean validateToken(String token, String clientType) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .requireIssuer("trekkit")
-                .requireAudience(clientType) 
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return "trekkit".equals(claims.getIssuer()) && clientType.equals(claims.getAudience());
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
     public Long extractUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey)
-                .build().parseClaimsJws(token)
-                .getBody().get("id", Long.class);
+        return parseClaims(token).get("id", Long.class);
+    }
+
+    // 필터에서 이미 검증한 클레임이 있으면 재사용, 없으면 검증 후 request에 저장
+    public Claims getClaims(HttpServletRequest request, String token) {
+    	Object cached = request.getAttribute(CLAIMS_ATTRIBUTE);
+    	if (cached instanceof Claims claims) {
+    		return claims;
+    	}
+    	Claims claims = parseClaims(token);
+    	request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+    	return claims;
+    }
+
+    // 서명 검증 + 클레임 파싱
+    // 같은 토큰은 exp 전까지 캐시된 결과를 사용해서 매 요청마다 HMAC 검증/JSON 파싱을 반복하지 않음
+    public Claims parseClaims(String token) {
+    	if (token == null) {
+    		throw new IllegalArgumentException("토큰이 없습니다.");
+    	}
+    	String key = hash(token);
+    	Claims claims = verifiedClaims.get(key);
+    	if (claims != null) {
+    		if (!isExpired(claims)) {
+    			return claims;
+    		}
+    		verifiedClaims.remove(key); // 만료된 토큰은 다시 검증해서 ExpiredJwtException이 나도록 함
+    	}
+
+    	claims = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+    	if (claims.getExpiration() != null) { // exp 없는 토큰은 캐시하지 않음
+    		if (verifiedClaims.size() >= MAX_CACHE_SIZE) {
+    			evict();
+    		}
+    		verifiedClaims.put(key, claims);
+    	}
+    	return claims;
+    }
+
+    // 만료된 항목부터 정리하고, 그래도 가득 차 있으면 전부 비움
+    private void evict() {
+    	verifiedClaims.values().removeIf(this::isExpired);
+    	if (verifiedClaims.size() >= MAX_CACHE_SIZE) {
+    		verifiedClaims.clear();
+    	}
+    }
+
+    private boolean isExpired(Claims claims) {
+    	return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용
+    private static String hash(String token) {
+    	try {
+    		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    		return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    	} catch (NoSuchAlgorithmException e) {
+    		throw new IllegalStateException(e);
+    	}
     }
 }
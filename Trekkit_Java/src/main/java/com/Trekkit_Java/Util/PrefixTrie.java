@@ -0,0 +1,61 @@
+package com.Trekkit_Java.Util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 접두사 검색용 트라이
+// 각 노드가 자기 아래(접두사가 같은) 모든 항목 위치를 오름차순 배열로 들고 있어서 find는 접두사 길이만큼만 내려가면 끝
+// 위치는 오름차순으로 add 해야 함, 다 넣은 뒤 freeze() 호출
+
+public class PrefixTrie {
+
+	private static final int[] EMPTY = new int[0];
+
+	private static final class Node {
+		final Map<Character, Node> children = new HashMap<>(4);
+		int[] positions = new int[2];
+		int size;
+
+		void add(int position) {
+			if (size > 0 && positions[size - 1] == position) { // 같은 항목의 다른 키가 이미 지나감
+				return;
+			}
+			if (size == positions.length) {
+				positions = Arrays.copyOf(positions, size * 2);
+			}
+			positions[size++] = position;
+		}
+
+		void freeze() {
+			positions = Arrays.copyOf(positions, size);
+			children.values().forEach(Node::freeze);
+		}
+	}
+
+	private final Node root = new Node();
+
+	public void add(String key, int position) {
+		Node node = root;
+		node.add(position);
+		for (int i = 0; i < key.length(); i++) {
+			node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+			node.add(position);
+		}
+	}
+
+	public PrefixTrie freeze() {
+		root.freeze();
+		return this;
+	}
+
+	// 접두사가 prefix인 항목 위치 (오름차순), 없으면 빈 배열
+	public int[] find(String prefix) {
+		Node node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = node.children.get(prefix.charAt(i));
+		}
+		return node == null ? EMPTY : node.positions;
+	}
+
+}
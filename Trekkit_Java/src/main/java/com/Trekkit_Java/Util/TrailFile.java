@@ -0,0 +1,184 @@
+package com.Trekkit_Java.Util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 등산로 로컬 저장 파일 (읽을 때는 메모리 매핑)
+// [헤더 24B]  magic 'TRL1', 버전, 등산로 수 N, 파트 수 P, 정점 수 V, 속성 바이트 수 B
+// [등산로 N x 32B] minLng, minLat, maxLng, maxLat (float), 첫 파트 번호, 파트 수, 속성 시작, 속성 길이 (int)
+// [파트 P x 8B]  첫 정점 번호, 정점 수 (int)
+// [정점 V x 8B]  lng, lat (float, 약 1m 정밀도)
+// [속성 B바이트] 등산로별 feature JSON (geometry 제외, UTF-8)
+
+public class TrailFile {
+
+	private static final int MAGIC = 0x54524C31; // "TRL1"
+	private static final int VERSION = 1;
+	private static final int HEADER = 24;
+	private static final int TRAIL_BYTES = 32;
+	private static final int PART_BYTES = 8;
+	private static final int VERTEX_BYTES = 8;
+
+	// 등산로 하나 (parts: 선 하나당 lng, lat 교대 배열)
+	public record Trail(String json, List<float[]> parts) {}
+
+	private final ByteBuffer buf;
+	private final int count;
+	private final int partsAt;
+	private final int verticesAt;
+	private final int propsAt;
+
+	private TrailFile(ByteBuffer buf) throws IOException {
+		this.buf = buf.order(ByteOrder.LITTLE_ENDIAN);
+		if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+			throw new IOException("등산로 파일 형식이 아닙니다.");
+		}
+		this.count = buf.getInt(8);
+		int parts = buf.getInt(12);
+		int vertices = buf.getInt(16);
+		this.partsAt = HEADER + count * TRAIL_BYTES;
+		this.verticesAt = partsAt + parts * PART_BYTES;
+		this.propsAt = verticesAt + vertices * VERTEX_BYTES;
+		if ((long) propsAt + buf.getInt(20) != buf.capacity()) {
+			throw new IOException("등산로 파일 크기가 맞지 않습니다.");
+		}
+	}
+
+	public static TrailFile open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new TrailFile(mapped); // 채널을 닫아도 매핑은 유지됨
+		}
+	}
+
+	public int count() { return count; }
+
+	public float minLng(int trail) { return buf.getFloat(trailAt(trail)); }
+	public float minLat(int trail) { return buf.getFloat(trailAt(trail) + 4); }
+	public float maxLng(int trail) { return buf.getFloat(trailAt(trail) + 8); }
+	public float maxLat(int trail) { return buf.getFloat(trailAt(trail) + 12); }
+	public int firstPart(int trail) { return buf.getInt(trailAt(trail) + 16); }
+	public int partCount(int trail) { return buf.getInt(trailAt(trail) + 20); }
+
+	public int firstVertex(int part) { return buf.getInt(partsAt + part * PART_BYTES); }
+	public int vertexCount(int part) { return buf.getInt(partsAt + part * PART_BYTES + 4); }
+
+	public float lng(int vertex) { return buf.getFloat(verticesAt + vertex * VERTEX_BYTES); }
+	public float lat(int vertex) { return buf.getFloat(verticesAt + vertex * VERTEX_BYTES + 4); }
+
+	public String json(int trail) {
+		int at = trailAt(trail);
+		byte[] bytes = new byte[buf.getInt(at + 28)];
+		buf.slice(propsAt + buf.getInt(at + 24), bytes.length).get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int trailAt(int trail) {
+		return HEADER + trail * TRAIL_BYTES;
+	}
+
+	// 임시 파일에 쓰고 옮겨서 서버가 쓰다 만 파일을 매핑하지 않도록 함
+	public static void write(Path file, List<Trail> trails) throws IOException {
+		int parts = 0, vertices = 0, propsBytes = 0;
+		byte[][] props = new byte[trails.size()][];
+		for (int i = 0; i < trails.size(); i++) {
+			Trail trail = trails.get(i);
+			props[i] = trail.json().getBytes(StandardCharsets.UTF_8);
+			propsBytes += props[i].length;
+			parts += trail.parts().size();
+			for (float[] part : trail.parts()) {
+				vertices += part.length / 2;
+			}
+		}
+
+		Path dir = file.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+		try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+			LittleEndian out = new LittleEndian(os);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(trails.size());
+			out.writeInt(parts);
+			out.writeInt(vertices);
+			out.writeInt(propsBytes);
+
+			int part = 0, propsOffset = 0;
+			for (int i = 0; i < trails.size(); i++) {
+				float minLng = Float.MAX_VALUE, minLat = Float.MAX_VALUE;
+				float maxLng = -Float.MAX_VALUE, maxLat = -Float.MAX_VALUE;
+				for (float[] xy : trails.get(i).parts()) {
+					for (int v = 0; v < xy.length; v += 2) {
+						minLng = Math.min(minLng, xy[v]);
+						maxLng = Math.max(maxLng, xy[v]);
+						minLat = Math.min(minLat, xy[v + 1]);
+						maxLat = Math.max(maxLat, xy[v + 1]);
+					}
+				}
+				out.writeFloat(minLng);
+				out.writeFloat(minLat);
+				out.writeFloat(maxLng);
+				out.writeFloat(maxLat);
+				out.writeInt(part);
+				out.writeInt(trails.get(i).parts().size());
+				out.writeInt(propsOffset);
+				out.writeInt(props[i].length);
+				part += trails.get(i).parts().size();
+				propsOffset += props[i].length;
+			}
+
+			int vertex = 0;
+			for (Trail trail : trails) {
+				for (float[] xy : trail.parts()) {
+					out.writeInt(vertex);
+					out.writeInt(xy.length / 2);
+					vertex += xy.length / 2;
+				}
+			}
+			for (Trail trail : trails) {
+				for (float[] xy : trail.parts()) {
+					for (float value : xy) {
+						out.writeFloat(value);
+					}
+				}
+			}
+			for (byte[] bytes : props) {
+				os.write(bytes);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(tmp);
+			throw e;
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// DataOutputStream은 빅엔디언이라 매핑 버퍼(리틀엔디언)에 맞춰 바이트 순서를 뒤집어 씀
+	private static final class LittleEndian {
+		private final DataOutputStream out;
+
+		LittleEndian(OutputStream os) {
+			this.out = new DataOutputStream(os);
+		}
+
+		void writeInt(int value) throws IOException {
+			out.writeInt(Integer.reverseBytes(value));
+		}
+
+		void writeFloat(float value) throws IOException {
+			writeInt(Float.floatToRawIntBits(value));
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.Trekkit_Java.Util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// 등산로(LT_L_FRSTCLIMB) GeoJSON -> 로컬 등산로 파일(TrailFile) 변환 (오프라인 실행)
+// 실행: ./gradlew importTrails --args="<입력.geojson> <출력.bin>"
+// 입력은 FeatureCollection 또는 브이월드 GetFeature 응답, 처음 나오는 "features" 배열을 feature 단위로 스트리밍해서 읽음
+
+public class TrailImporter {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("사용법: TrailImporter <입력.geojson> <출력.bin>");
+			System.exit(1);
+		}
+		List<TrailFile.Trail> trails;
+		try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+			trails = read(in);
+		}
+		Path out = Paths.get(args[1]);
+		TrailFile.write(out, trails);
+		System.out.println("등산로 " + trails.size() + "건 -> " + out.toAbsolutePath() + " (" + Files.size(out) + " bytes)");
+	}
+
+	// LineString / MultiLineString 만 읽음, id가 같은 feature는 한 번만 (타일별로 받은 파일을 합친 경우)
+	public static List<TrailFile.Trail> read(InputStream in) throws IOException {
+		List<TrailFile.Trail> trails = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		try (JsonParser parser = MAPPER.getFactory().createParser(in)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.FIELD_NAME && "features".equals(parser.currentName())
+						&& parser.nextToken() == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						ObjectNode feature = parser.readValueAsTree();
+						JsonNode id = feature.get("id");
+						if (id != null && !id.isNull() && !seen.add(id.asText())) {
+							continue;
+						}
+						List<float[]> parts = parts(feature.path("geometry"));
+						if (!parts.isEmpty()) {
+							feature.remove("geometry");
+							trails.add(new TrailFile.Trail(MAPPER.writeValueAsString(feature), parts));
+						}
+					}
+					break;
+				}
+			}
+		}
+		return trails;
+	}
+
+	private static List<float[]> parts(JsonNode geometry) {
+		List<float[]> parts = new ArrayList<>();
+		JsonNode coordinates = geometry.path("coordinates");
+		switch (geometry.path("type").asText()) {
+			case "LineString" -> addPart(parts, coordinates);
+			case "MultiLineString" -> coordinates.forEach(line -> addPart(parts, line));
+			default -> { }
+		}
+		return parts;
+	}
+
+	private static void addPart(List<float[]> parts, JsonNode line) {
+		if (line.size() < 2) {
+			return;
+		}
+		float[] xy = new float[line.size() * 2];
+		for (int i = 0; i < line.size(); i++) {
+			xy[2 * i] = (float) line.get(i).get(0).asDouble();
+			xy[2 * i + 1] = (float) line.get(i).get(1).asDouble();
+		}
+		parts.add(xy);
+	}
+
+}
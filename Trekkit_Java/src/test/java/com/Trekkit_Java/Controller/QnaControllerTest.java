@@ -0,0 +1,37 @@
+package com.Trekkit_Java.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.Service.QnaService;
+
+class QnaControllerTest {
+
+	private QnaController controller;
+
+	@BeforeEach
+	void setUp() {
+		QnaService qnaService = mock(QnaService.class);
+		when(qnaService.getQuestionPage(any(), any(), any(), eq("bad"), anyInt()))
+				.thenThrow(new IllegalArgumentException("잘못된 커서입니다."));
+		controller = new QnaController();
+		ReflectionTestUtils.setField(controller, "qnaService", qnaService);
+	}
+
+	@Test
+	void invalidCursorOrSizeIsBadRequest() {
+		assertEquals(HttpStatus.BAD_REQUEST, controller.getQuestionPage(null, null, "latest", "bad", 20).getStatusCode());
+		assertEquals(HttpStatus.BAD_REQUEST, controller.getQuestionPage(null, null, "latest", null, 0).getStatusCode());
+		assertEquals(HttpStatus.BAD_REQUEST, controller.getQuestionPage(null, null, "latest", null, 101).getStatusCode());
+		assertEquals(HttpStatus.OK, controller.getQuestionPage(null, null, "latest", null, 100).getStatusCode());
+	}
+}
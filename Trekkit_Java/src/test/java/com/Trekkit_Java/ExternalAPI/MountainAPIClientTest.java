@@ -0,0 +1,120 @@
+package com.Trekkit_Java.ExternalAPI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.Model.Mountain;
+import com.sun.net.httpserver.HttpServer;
+
+// 녹화해 둔 API 응답(src/test/resources/openapi)을 로컬 HTTP 서버로 돌려주고 클라이언트를 검증합니다.
+class MountainAPIClientTest {
+
+	private HttpServer server;
+	private MountainAPIClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/mntInfoOpenAPI2", exchange -> {
+			Matcher page = Pattern.compile("pageNo=(\\d+)").matcher(exchange.getRequestURI().getQuery());
+			String resource = page.find() ? "/openapi/mntInfo-page" + page.group(1) + ".json" : null;
+			try (InputStream in = resource == null ? null : getClass().getResourceAsStream(resource)) {
+				if (in == null) {
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				byte[] body = in.readAllBytes();
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			}
+		});
+		server.start();
+
+		client = new MountainAPIClient();
+		ReflectionTestUtils.setField(client, "httpClient", new OutboundHttpClient(1000, 5000, 2));
+		ReflectionTestUtils.setField(client, "serviceKey", "test-key");
+		ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/mntInfoOpenAPI2");
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void fetchAllReadsEveryPageInOrder() throws Exception {
+		List<Mountain> mountains = client.fetchAll();
+
+		assertEquals(List.of("북한산", "관악산", "설악산"), mountains.stream().map(Mountain::getMntiname).toList());
+		assertEquals("111100101", mountains.get(0).getMntilistno());
+		assertEquals(836.5, mountains.get(0).getMntihigh());
+		assertEquals(632.0, mountains.get(1).getMntihigh()); // 문자열로 온 숫자
+		assertEquals("/assets/images/설악산/1.jpg", mountains.get(2).getImageUrl()); // item이 객체 하나인 페이지
+	}
+
+	@Test
+	void sharedClientRecordsPerHostMetrics() throws Exception {
+		OutboundHttpClient httpClient = new OutboundHttpClient(1000, 5000, 2);
+		ReflectionTestUtils.setField(client, "httpClient", httpClient);
+
+		client.fetchAll();
+		assertThrows(IOException.class, () -> client.fetchPage(3)); // 녹화되지 않은 페이지 -> 404
+
+		Map<String, Object> stats = httpClient.metrics().get("127.0.0.1");
+		assertEquals(3L, stats.get("requests"));
+		assertEquals(1L, stats.get("failures"));
+		assertEquals(0, stats.get("inFlight"));
+	}
+
+	@Test
+	void stalledBodyIsCutOffAtReadTimeout() throws Exception {
+		// 헤더는 바로 보내고 본문 중간에서 멈추는 서버 (테스트가 끝날 때 풀어줌)
+		CountDownLatch release = new CountDownLatch(1);
+		server.createContext("/stall", exchange -> {
+			exchange.sendResponseHeaders(200, 1000);
+			OutputStream out = exchange.getResponseBody();
+			out.write('{');
+			out.flush();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.close();
+		});
+		OutboundHttpClient httpClient = new OutboundHttpClient(1000, 300, 1);
+		String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/stall";
+
+		long start = System.nanoTime();
+		assertThrows(IOException.class, () -> httpClient.getString(url));
+		assertTrue(System.nanoTime() - start < 3_000_000_000L);
+		assertFalse(Thread.currentThread().isInterrupted());
+
+		Map<String, Object> stats = httpClient.metrics().get("127.0.0.1");
+		assertEquals(1L, stats.get("failures"));
+		assertEquals(0, stats.get("inFlight")); // 동시 요청 슬롯을 돌려받음
+		httpClient.shutdown();
+		release.countDown();
+	}
+}
@@ -0,0 +1,195 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.Trekkit_Java.DAO.ImageRefDAO;
+
+class ImagePipelineTest {
+
+	@TempDir
+	Path dir;
+
+	private ImageRefDAO imageRefDAO;
+	private ImagePipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		imageRefDAO = mock(ImageRefDAO.class);
+		pipeline = new ImagePipeline(imageRefDAO, dir.resolve("img"), dir.resolve("profile"), 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.shutdown();
+	}
+
+	@Test
+	void storesResizedVariantsInUploadOrder() throws Exception {
+		List<String> urls = pipeline.storePostImages(new MultipartFile[] {
+				png("a.png", 4000, 3000), png("b.png", 600, 900), new MockMultipartFile("images", new byte[0]) });
+
+		assertEquals(2, urls.size()); // 빈 파일은 건너뜀
+		assertSize(urls.get(0), 1920, 1440);
+		assertSize(ImagePipeline.mediumOf(urls.get(0)), 800, 600);
+		assertSize(ImagePipeline.thumbnailOf(urls.get(0)), 320, 320);
+		assertSize(urls.get(1), 600, 900); // 작은 이미지는 키우지 않음
+		assertSize(ImagePipeline.thumbnailOf(urls.get(1)), 320, 320);
+
+		// 예전 업로드는 변형이 없으므로 원본 경로 그대로
+		assertEquals("/uploads/old.png", ImagePipeline.thumbnailOf("/uploads/old.png"));
+	}
+
+	@Test
+	void identicalUploadsShareOneContentAddressedFile() throws Exception {
+		MockMultipartFile photo = png("a.png", 1000, 800);
+		String first = pipeline.storePostImages(new MultipartFile[] { photo }).get(0);
+		String again = pipeline.storePostImages(new MultipartFile[] { png("copy.png", 1000, 800) }).get(0);
+
+		assertEquals(first, again);
+		assertTrue(ImagePipeline.isContentAddressed(first));
+		assertEquals(first.substring(13, 15), first.substring(16, 18)); // /uploads/img/ab/ab...
+		assertEquals(pipeline.storeProfileImage(photo), pipeline.storeProfileImage(photo));
+	}
+
+	@Test
+	void releaseDeletesOnlyUnreferencedOldFiles() throws Exception {
+		String shared = pipeline.storePostImages(new MultipartFile[] { png("a.png", 1000, 800) }).get(0);
+		String orphan = pipeline.storePostImages(new MultipartFile[] { png("b.png", 900, 700) }).get(0);
+		for (String url : List.of(shared, orphan)) {
+			for (String u : List.of(url, ImagePipeline.mediumOf(url), ImagePipeline.thumbnailOf(url))) {
+				Files.setLastModifiedTime(pipeline.fileOf(u), FileTime.fromMillis(0)); // 유예 시간이 지난 파일
+			}
+		}
+		when(imageRefDAO.countReferences(shared)).thenReturn(1);
+
+		pipeline.release(List.of(shared, orphan, "/uploads/legacy.png"));
+		verify(imageRefDAO, timeout(2000)).countReferences(orphan);
+		Thread.sleep(100);
+
+		assertTrue(Files.exists(pipeline.fileOf(shared)));
+		assertFalse(Files.exists(pipeline.fileOf(orphan)));
+		assertFalse(Files.exists(pipeline.fileOf(ImagePipeline.thumbnailOf(orphan))));
+	}
+
+	@Test
+	void rejectsNonImagesAndCleansUpTheBatch() throws Exception {
+		MultipartFile text = new MockMultipartFile("images", "note.txt", "text/plain", "hello".getBytes());
+		assertThrows(IllegalArgumentException.class,
+				() -> pipeline.storePostImages(new MultipartFile[] { png("a.png", 1000, 800), text }));
+		try (var files = Files.walk(dir.resolve("img"))) {
+			assertEquals(0, files.filter(Files::isRegularFile).count());
+		}
+	}
+
+	@Test
+	void failedBatchKeepsFilesReusedByAnotherRequest() throws Exception {
+		CountDownLatch reused = new CountDownLatch(1);
+		// 다른 요청이 같은 사진을 재사용할 때까지 기다렸다가 실패하는 파일
+		MultipartFile slowText = new MockMultipartFile("images", "note.txt", "text/plain", "hello".getBytes()) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				try {
+					reused.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.getInputStream();
+			}
+		};
+		CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() -> {
+			try {
+				return pipeline.storePostImages(new MultipartFile[] { png("a.png", 1000, 800), slowText });
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		Path large = null; // 첫 요청이 사진 파일을 만들 때까지 대기
+		long deadline = System.currentTimeMillis() + 5000;
+		while (large == null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			if (Files.exists(dir.resolve("img"))) {
+				try (var files = Files.walk(dir.resolve("img"))) {
+					large = files.filter(f -> f.toString().matches(".*[0-9a-f]{64}\\.jpg")).findFirst().orElse(null);
+				}
+			}
+		}
+		assertTrue(large != null);
+		String url = pipeline.storePostImages(new MultipartFile[] { png("copy.png", 1000, 800) }).get(0);
+		reused.countDown();
+
+		ExecutionException failed = assertThrows(ExecutionException.class, first::get);
+		assertTrue(failed.getCause().getCause() instanceof IllegalArgumentException);
+		assertTrue(Files.exists(pipeline.fileOf(url)));
+		assertTrue(Files.exists(pipeline.fileOf(ImagePipeline.thumbnailOf(url))));
+	}
+
+	@Test
+	void rejectsImagesDeclaringTooManyPixelsBeforeDecoding() throws Exception {
+		byte[] bytes = png("small.png", 1, 1).getBytes();
+		// IHDR의 가로/세로를 30000x30000으로 바꿈 (파일은 몇십 바이트)
+		byte[] huge = { 0, 0, 0x75, 0x30, 0, 0, 0x75, 0x30 };
+		System.arraycopy(huge, 0, bytes, 16, huge.length);
+		MultipartFile bomb = new MockMultipartFile("images", "bomb.png", "image/png", bytes);
+
+		assertThrows(IllegalArgumentException.class, () -> pipeline.storePostImages(new MultipartFile[] { bomb }));
+		assertThrows(IllegalArgumentException.class, () -> pipeline.storeProfileImage(bomb));
+	}
+
+	@Test
+	void readsExifOrientation() throws Exception {
+		// FFD8, APP1(Exif, 빅엔디언 TIFF, IFD0에 Orientation=6 하나)
+		byte[] jpeg = {
+				(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0, 34,
+				'E', 'x', 'i', 'f', 0, 0,
+				'M', 'M', 0, 42, 0, 0, 0, 8,
+				0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0,
+				0, 0, 0, 0 };
+		assertEquals(6, ImagePipeline.ExifOrientation.read(new ByteArrayInputStream(jpeg)));
+		assertEquals(1, ImagePipeline.ExifOrientation.read(new ByteArrayInputStream(new byte[] { 1, 2, 3 })));
+	}
+
+	private void assertSize(String url, int width, int height) throws Exception {
+		Path file = pipeline.fileOf(url);
+		assertTrue(Files.exists(file), url);
+		BufferedImage image = ImageIO.read(file.toFile());
+		assertEquals(width, image.getWidth());
+		assertEquals(height, image.getHeight());
+	}
+
+	private static MockMultipartFile png(String name, int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+		return new MockMultipartFile("images", name, "image/png", out.toByteArray());
+	}
+}
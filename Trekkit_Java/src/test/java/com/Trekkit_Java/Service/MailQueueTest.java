@@ -0,0 +1,91 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+// 실제 SMTP 대신 프로세스 안의 가짜 발송기를 사용합니다. (처음 failures번은 실패, 이후 성공)
+class MailQueueTest {
+
+	private static class StubMailSender extends JavaMailSenderImpl {
+		final List<SimpleMailMessage> delivered = new CopyOnWriteArrayList<>();
+		final AtomicInteger failures;
+		final CountDownLatch done;
+
+		StubMailSender(int failures, int expected) {
+			this.failures = new AtomicInteger(failures);
+			this.done = new CountDownLatch(expected);
+		}
+
+		@Override
+		public void send(SimpleMailMessage message) {
+			if (failures.getAndDecrement() > 0) {
+				done.countDown();
+				throw new MailSendException("smtp unavailable");
+			}
+			delivered.add(message);
+			done.countDown();
+		}
+	}
+
+	@Test
+	void enqueueReturnsImmediatelyAndWorkerDelivers() throws Exception {
+		StubMailSender sender = new StubMailSender(0, 3);
+		MailQueue queue = new MailQueue(sender, 2, 10, 3, 1);
+
+		for (int i = 0; i < 3; i++) {
+			queue.enqueue(message("user" + i + "@test.com"));
+		}
+
+		assertTrue(sender.done.await(5, TimeUnit.SECONDS));
+		queue.shutdown();
+		assertEquals(3, sender.delivered.size());
+		assertEquals(3L, queue.metrics().get("sent"));
+		assertEquals(0L, queue.metrics().get("failed"));
+	}
+
+	@Test
+	void failedSendIsRetriedWithBackoff() throws Exception {
+		StubMailSender sender = new StubMailSender(2, 3); // 2번 실패 후 3번째에 성공
+		MailQueue queue = new MailQueue(sender, 1, 10, 3, 1);
+
+		queue.enqueue(message("retry@test.com"));
+
+		assertTrue(sender.done.await(5, TimeUnit.SECONDS));
+		queue.shutdown();
+		assertEquals(1, sender.delivered.size());
+		assertEquals(2L, queue.metrics().get("retried"));
+		assertEquals(1L, queue.metrics().get("sent"));
+	}
+
+	@Test
+	void gaveUpAfterMaxAttemptsIsCountedAsFailure() throws Exception {
+		StubMailSender sender = new StubMailSender(Integer.MAX_VALUE, 3);
+		MailQueue queue = new MailQueue(sender, 1, 10, 3, 1);
+
+		queue.enqueue(message("down@test.com"));
+
+		assertTrue(sender.done.await(5, TimeUnit.SECONDS));
+		queue.shutdown();
+		assertEquals(0, sender.delivered.size());
+		assertEquals(1L, queue.metrics().get("failed"));
+	}
+
+	private static SimpleMailMessage message(String to) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setTo(to);
+		message.setSubject("test");
+		message.setText("code");
+		return message;
+	}
+}
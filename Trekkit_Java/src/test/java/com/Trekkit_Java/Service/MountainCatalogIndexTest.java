@@ -0,0 +1,105 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.DAO.MountainDAO;
+import com.Trekkit_Java.Model.Mountain;
+
+class MountainCatalogIndexTest {
+
+	private MountainCatalogIndex index;
+
+	@BeforeEach
+	void setUp() {
+		MountainDAO mountainDAO = mock(MountainDAO.class);
+		when(mountainDAO.selectAllForIndex()).thenReturn(List.of(
+				mountain("1", "북한산", "서울특별시 강북구", 836),
+				mountain("2", "관악산", "서울특별시 관악구", 632),
+				mountain("3", "설악산", "강원특별자치도 속초시", 1708),
+				mountain("4", "한라산", "제주특별자치도 제주시", 1947),
+				mountain("5", "계룡산", "충청남도 공주시", 847),
+				mountain("6", "북악산", "서울특별시 종로구", 342)));
+		when(mountainDAO.countPostsByMountain()).thenReturn(List.of(
+				Map.of("mountain", "북악산", "cnt", 12L),
+				Map.of("mountain", "북한산", "cnt", 3L)));
+		index = new MountainCatalogIndex();
+		ReflectionTestUtils.setField(index, "mountainDAO", mountainDAO);
+		index.refresh();
+	}
+
+	@Test
+	void searchMatchesSubstringOfNameAndAddress() {
+		assertEquals(List.of("관악산", "북악산", "북한산"), names(index.query("", "서울", "", null, 0, 10)));
+		assertEquals(List.of("설악산"), names(index.query("설악", "", "", null, 0, 10)));
+		assertEquals(List.of("관악산", "북악산", "설악산"), names(index.query("악산", "", "", null, 0, 10)));
+		assertEquals(List.of("관악산"), names(index.query("악", "관악구", "", null, 0, 10)));
+		assertEquals(0, index.query("악산맥", "", "", null, 0, 10).total());
+	}
+
+	@Test
+	void initialFiltersOnFirstSyllable() {
+		assertEquals(List.of("계룡산", "관악산"), names(index.query("", "", "ㄱ", null, 0, 10)));
+	}
+
+	@Test
+	void choseongPrefixMatchesWholeInitialSequence() {
+		assertEquals(List.of("북한산"), names(index.query("ㅂㅎ", "", "", null, 0, 10)));
+		assertEquals(List.of("계룡산"), names(index.query("", "", "ㄱㄹ", null, 0, 10)));
+		assertEquals(List.of("관악산"), names(index.query("", "서울", "ㄱ", null, 0, 10)));
+		assertEquals(List.of("북악산", "북한산"), names(index.query("ㅂ", "", "", null, 0, 10)));
+		assertEquals(0, index.query("ㅂㅅ", "", "", null, 0, 10).total());
+	}
+
+	@Test
+	void pagesFollowHeightOrderAndTotalIgnoresPaging() {
+		MountainCatalogIndex.Page page = index.query("", "", "", "mntihigh DESC", 1, 2);
+		assertEquals(List.of("설악산", "계룡산"), names(page));
+		assertEquals(6, page.total());
+		assertEquals(List.of("북악산", "관악산"), names(index.query("", "", "", "mntihigh ASC", 0, 2)));
+	}
+
+	@Test
+	void suggestRanksPrefixThenPopularity() {
+		// 둘 다 "북" 접두사 -> 게시글이 많은 북악산이 먼저
+		assertEquals(List.of("북악산", "북한산"), names(index.suggest("북", 10)));
+		assertEquals(List.of("북악산"), names(index.suggest("북", 1)));
+		// 접두사 일치가 포함보다 먼저
+		assertEquals(List.of("한라산", "북한산"), names(index.suggest("한", 10)));
+	}
+
+	@Test
+	void suggestToleratesTypos() {
+		assertEquals("설악산", index.suggest("설왁산", 10).get(0).getMntiname());
+		assertEquals("계룡산", index.suggest("계룡선", 10).get(0).getMntiname());
+		assertEquals("설악산", index.suggest("설악산ㄱ", 10).get(0).getMntiname()); // 2-gram 후보
+		assertEquals(List.of(), index.suggest("설한봉", 10)); // 글자 하나씩만 겹치는 이름은 후보가 아님
+		assertEquals(List.of("북악산", "북한산"), names(index.suggest("ㅂ", 10)));
+		assertEquals(List.of(), index.suggest("", 10));
+	}
+
+	private static List<String> names(MountainCatalogIndex.Page page) {
+		return names(page.mountains());
+	}
+
+	private static List<String> names(List<Mountain> mountains) {
+		return mountains.stream().map(Mountain::getMntiname).toList();
+	}
+
+	private static Mountain mountain(String no, String name, String address, double height) {
+		Mountain mountain = new Mountain();
+		mountain.setMntilistno(no);
+		mountain.setMntiname(name);
+		mountain.setMntiadd(address);
+		mountain.setMntihigh(height);
+		return mountain;
+	}
+}
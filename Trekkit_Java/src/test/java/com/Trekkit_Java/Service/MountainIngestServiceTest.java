@@ -0,0 +1,100 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.DAO.MountainDAO;
+import com.Trekkit_Java.ExternalAPI.MountainAPIClient;
+import com.Trekkit_Java.Model.Mountain;
+
+// 받은 산 목록과 DB에 있는 행을 비교해서 바뀐 행만 BATCH_SIZE(500)개씩 upsert 하는지 확인합니다.
+class MountainIngestServiceTest {
+
+	private MountainAPIClient apiClient;
+	private MountainDAO mountainDAO;
+	private MountainCatalogIndex catalogIndex;
+	private MountainIngestService service;
+
+	@BeforeEach
+	void setUp() {
+		apiClient = mock(MountainAPIClient.class);
+		mountainDAO = mock(MountainDAO.class);
+		catalogIndex = mock(MountainCatalogIndex.class);
+		service = new MountainIngestService();
+		ReflectionTestUtils.setField(service, "apiClient", apiClient);
+		ReflectionTestUtils.setField(service, "mountainDAO", mountainDAO);
+		ReflectionTestUtils.setField(service, "catalogIndex", catalogIndex);
+	}
+
+	@Test
+	void unchangedPageWritesNothing() throws Exception {
+		when(mountainDAO.selectAllForIndex()).thenReturn(List.of(mountain("1", "북한산", 836.5), mountain("2", "관악산", 632)));
+		when(apiClient.fetchAll()).thenReturn(List.of(mountain("1", "북한산", 836.5), mountain("2", "관악산", 632)));
+
+		assertEquals(Map.of("fetched", 2, "changed", 0, "unchanged", 2), service.ingest());
+		verify(mountainDAO, never()).upsertMountains(anyList());
+		verify(catalogIndex, never()).refresh();
+	}
+
+	@Test
+	void changedPageUpsertsOnlyChangedAndNewRows() throws Exception {
+		when(mountainDAO.selectAllForIndex()).thenReturn(List.of(mountain("1", "북한산", 836.5), mountain("2", "관악산", 632)));
+		when(apiClient.fetchAll()).thenReturn(List.of(
+				mountain("1", "북한산", 836.5),
+				mountain("2", "관악산", 632.2), // 높이가 바뀜
+				mountain("3", "설악산", 1708)));
+
+		assertEquals(Map.of("fetched", 3, "changed", 2, "unchanged", 1), service.ingest());
+		assertEquals(List.of(List.of("2", "3")), upsertedBatches(1));
+		verify(catalogIndex, times(1)).refresh();
+	}
+
+	@Test
+	void changedRowsAreSplitAtBatchBoundary() throws Exception {
+		List<Mountain> fetched = new ArrayList<>();
+		for (int i = 0; i < 1203; i++) {
+			fetched.add(mountain(String.valueOf(i), "산" + i, i));
+		}
+		when(mountainDAO.selectAllForIndex()).thenReturn(List.of(mountain("0", "산0", 0))); // 첫 행은 그대로
+		when(apiClient.fetchAll()).thenReturn(fetched);
+
+		assertEquals(Map.of("fetched", 1203, "changed", 1202, "unchanged", 1), service.ingest());
+		List<List<String>> batches = upsertedBatches(3);
+		assertEquals(List.of(500, 500, 202), batches.stream().map(List::size).toList());
+		assertEquals("1", batches.get(0).get(0));
+		assertEquals("501", batches.get(1).get(0));
+		assertEquals("1202", batches.get(2).get(201));
+		verify(catalogIndex, times(1)).refresh(); // 배치가 여러 번이어도 갱신은 한 번
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<List<String>> upsertedBatches(int expected) {
+		ArgumentCaptor<List<Mountain>> captor = ArgumentCaptor.forClass(List.class);
+		verify(mountainDAO, times(expected)).upsertMountains(captor.capture());
+		return captor.getAllValues().stream()
+				.map(batch -> batch.stream().map(Mountain::getMntilistno).toList())
+				.toList();
+	}
+
+	private static Mountain mountain(String no, String name, double high) {
+		Mountain mountain = new Mountain();
+		mountain.setMntilistno(no);
+		mountain.setMntiname(name);
+		mountain.setMntihigh(high);
+		return mountain;
+	}
+}
@@ -0,0 +1,92 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.DAO.MountainCourseDAO;
+import com.Trekkit_Java.DAO.MountainImageDAO;
+import com.Trekkit_Java.DTO.MountainCourse;
+import com.Trekkit_Java.DTO.MountainImageDTO;
+import com.Trekkit_Java.DTO.MountainPointDTO;
+
+class MountainSpatialIndexTest {
+
+	private final List<MountainImageDTO> images = new ArrayList<>();
+	private MountainSpatialIndex index;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(42);
+		for (long i = 1; i <= 500; i++) { // 남한 범위에 무작위 좌표
+			MountainImageDTO image = new MountainImageDTO();
+			image.setId(i);
+			image.setName("산" + i);
+			image.setLatitude(33.0 + random.nextDouble() * 5.5);
+			image.setLongitude(126.0 + random.nextDouble() * 3.5);
+			images.add(image);
+		}
+		MountainImageDAO imageDAO = mock(MountainImageDAO.class);
+		MountainCourseDAO courseDAO = mock(MountainCourseDAO.class);
+		when(imageDAO.findAllWithCoordinates()).thenReturn(images);
+		when(courseDAO.findAllWithCoordinates()).thenReturn(List.<MountainCourse>of());
+
+		index = new MountainSpatialIndex();
+		ReflectionTestUtils.setField(index, "mountainImageDAO", imageDAO);
+		ReflectionTestUtils.setField(index, "mountainCourseDAO", courseDAO);
+		index.refresh();
+	}
+
+	@Test
+	void nearestMatchesBruteForce() {
+		double[][] queries = {{37.56, 126.97}, {33.4, 126.5}, {38.5, 129.4}, {35.0, 131.0}};
+		for (double[] q : queries) {
+			List<Long> expected = images.stream()
+					.sorted(Comparator.comparingDouble(i -> MountainSpatialIndex.distanceKm(q[0], q[1], i.getLatitude(), i.getLongitude())))
+					.limit(7)
+					.map(MountainImageDTO::getId)
+					.toList();
+			List<Long> actual = index.nearest(q[0], q[1], 7).stream().map(MountainPointDTO::getId).toList();
+			assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	void nearestFarOutsideTheDataIsFastAndExact() {
+		double[][] queries = {{0, 0}, {-80, -170}, {89.9, 180}, {-90, -180}, {37.5, -170}};
+		assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+			for (double[] q : queries) {
+				List<Long> expected = images.stream()
+						.sorted(Comparator.comparingDouble(i -> MountainSpatialIndex.distanceKm(q[0], q[1], i.getLatitude(), i.getLongitude())))
+						.limit(10)
+						.map(MountainImageDTO::getId)
+						.toList();
+				List<Long> actual = index.nearest(q[0], q[1], 10).stream().map(MountainPointDTO::getId).toList();
+				assertEquals(expected, actual);
+			}
+		});
+		assertThrows(IllegalArgumentException.class, () -> index.nearest(1e9, 127, 10));
+		assertThrows(IllegalArgumentException.class, () -> index.nearest(37.5, Double.NaN, 10));
+	}
+
+	@Test
+	void withinBoxMatchesBruteForce() {
+		long expected = images.stream()
+				.filter(i -> i.getLatitude() >= 35.1 && i.getLatitude() <= 36.35 && i.getLongitude() >= 127.05 && i.getLongitude() <= 128.9)
+				.count();
+		assertEquals(expected, index.withinBox(35.1, 127.05, 36.35, 128.9, 1000).size());
+		assertEquals(3, index.withinBox(33.0, 126.0, 38.5, 129.5, 3).size());
+	}
+}
@@ -0,0 +1,78 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.Trekkit_Java.DAO.PostDAO;
+
+class PostCountCacheTest {
+
+	private PostDAO postDAO;
+	private PostCountCache cache;
+
+	@BeforeEach
+	void setUp() {
+		postDAO = mock(PostDAO.class);
+		when(postDAO.count(anyString())).thenReturn(0);
+		when(postDAO.count("")).thenReturn(10);
+		when(postDAO.count("북한산")).thenReturn(4);
+		cache = new PostCountCache(postDAO);
+		cache.get(null);
+		cache.get("북한산");
+	}
+
+	@Test
+	void postsWithoutMountainChangeTotalOnce() {
+		cache.increment(null);
+		cache.increment("");
+		assertEquals(12, cache.get(null));
+
+		cache.decrement(null);
+		assertEquals(11, cache.get(""));
+		assertEquals(4, cache.get("북한산"));
+	}
+
+	@Test
+	void movingToOrFromNoMountainKeepsTotal() {
+		cache.move(null, "북한산");
+		assertEquals(10, cache.get(null));
+		assertEquals(5, cache.get("북한산"));
+
+		cache.move("북한산", null);
+		cache.move("북한산", "");
+		assertEquals(10, cache.get(null));
+		assertEquals(3, cache.get("북한산"));
+
+		cache.move(null, "");
+		assertEquals(10, cache.get(null));
+	}
+
+	@Test
+	void namesWithoutPostsAreNotCached() {
+		assertEquals(0, cache.get("없는산"));
+		assertEquals(0, cache.get("없는산"));
+		verify(postDAO, times(2)).count("없는산");
+
+		cache.reconcile();
+		verify(postDAO, times(2)).count("없는산");
+	}
+
+	@Test
+	void reconcileDropsMountainsWhosePostsAreGone() {
+		when(postDAO.count("북한산")).thenReturn(0, 2);
+		cache.reconcile();
+		verify(postDAO, times(2)).count("북한산");
+
+		cache.reconcile();
+		verify(postDAO, times(2)).count("북한산");
+		assertEquals(2, cache.get("북한산"));
+		assertEquals(10, cache.get(null));
+	}
+}
@@ -0,0 +1,216 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.Trekkit_Java.DAO.PostDAO;
+import com.Trekkit_Java.DTO.PostDTO;
+import com.Trekkit_Java.DTO.PostImageDTO;
+
+// PostDAO의 각 메서드 호출은 SQL 한 번에 대응하므로, 목(mock)에 기록된 호출 수로 페이지당 쿼리 수를 셉니다.
+class PostServiceTest {
+
+	private PostDAO postDAO;
+	private PostService postService;
+
+	@BeforeEach
+	void setUp() {
+		postDAO = mock(PostDAO.class);
+		postService = new PostService(postDAO, new PostCountCache(postDAO), mock(ViewCountBuffer.class), new UserStateCache(), mock(ImagePipeline.class));
+	}
+
+	@Test
+	void getAllPostsIssuesConstantNumberOfQueriesRegardlessOfPageSize() {
+		for (int size : new int[] {1, 10, 50}) {
+			postDAO = mock(PostDAO.class);
+			postService = new PostService(postDAO, new PostCountCache(postDAO), mock(ViewCountBuffer.class), new UserStateCache(), mock(ImagePipeline.class));
+			when(postDAO.findAll(anyMap())).thenReturn(posts(size));
+			when(postDAO.findImagesByPostIds(anyList())).thenReturn(List.of(image(1L, "/uploads/a.jpg")));
+
+			postService.getAllPosts(0, size, "최신순", null);
+
+			// findAll + count + findImagesByPostIds
+			assertEquals(3, mockingDetails(postDAO).getInvocations().size(), "size=" + size);
+		}
+	}
+
+	@Test
+	void getAllPostsGroupsImagesByPostInQueryOrder() {
+		when(postDAO.findAll(anyMap())).thenReturn(posts(3));
+		when(postDAO.findImagesByPostIds(anyList())).thenReturn(List.of(
+				image(1L, "/uploads/a.jpg"),
+				image(1L, "/uploads/b.jpg"),
+				image(3L, "/uploads/c.jpg")));
+
+		@SuppressWarnings("unchecked")
+		List<PostDTO> posts = (List<PostDTO>) postService.getAllPosts(0, 3, "최신순", null).get("posts");
+
+		assertEquals(List.of("/uploads/a.jpg", "/uploads/b.jpg"), posts.get(0).getImagePaths());
+		assertEquals(List.of(), posts.get(1).getImagePaths());
+		assertEquals(List.of("/uploads/c.jpg"), posts.get(2).getImagePaths());
+	}
+
+	@Test
+	void getAllPostsSkipsImageQueryForEmptyPage() {
+		when(postDAO.findAll(anyMap())).thenReturn(new ArrayList<>());
+
+		postService.getAllPosts(5, 10, "최신순", null);
+
+		// findAll + count
+		assertEquals(2, mockingDetails(postDAO).getInvocations().size());
+	}
+
+	@Test
+	void getAllPostsCountsOncePerMountainThenServesFromCache() {
+		when(postDAO.findAll(anyMap())).thenReturn(new ArrayList<>());
+		when(postDAO.count("북한산")).thenReturn(7);
+
+		postService.getAllPosts(0, 10, "최신순", "북한산");
+		PostDTO created = new PostDTO();
+		created.setMountain("북한산");
+		postService.createPost(created, 1L);
+		Map<String, Object> response = postService.getAllPosts(0, 10, "최신순", "북한산");
+
+		assertEquals(8, response.get("totalCount"));
+		verify(postDAO, times(1)).count("북한산");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void getPostsByCursorSeeksFromLastRowOfPreviousPage() {
+		List<PostDTO> firstPage = posts(3); // size 2 + 다음 페이지 확인용 1건
+		firstPage.forEach(post -> post.setCreatedAt(new Timestamp(1_700_000_000_000L)));
+		when(postDAO.findAll(anyMap())).thenReturn(firstPage);
+
+		Map<String, Object> response = postService.getPostsByCursor(null, 2, "최신순", null);
+
+		assertEquals(2, ((List<PostDTO>) response.get("posts")).size());
+		assertEquals(true, response.get("hasNext"));
+
+		ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+		when(postDAO.findAll(params.capture())).thenReturn(new ArrayList<>());
+
+		Map<String, Object> next = postService.getPostsByCursor((String) response.get("nextCursor"), 2, "최신순", null);
+
+		assertEquals(2L, params.getValue().get("cursorId"));
+		assertEquals(new Timestamp(1_700_000_000_000L), params.getValue().get("cursorCreatedAt"));
+		assertNull(next.get("nextCursor"));
+		assertThrows(IllegalArgumentException.class,
+				() -> postService.getPostsByCursor((String) response.get("nextCursor"), 2, "인기순", null));
+	}
+
+	@Test
+	void updatePostWritesOnlyChangedImages() {
+		PostDTO original = posts(1).get(0);
+		original.setUserId(7L);
+		when(postDAO.findById(1L)).thenReturn(original);
+		when(postDAO.findImagesByPostIds(List.of(1L))).thenReturn(List.of(
+				image(10L, 1L, "/uploads/a.jpg"),
+				image(11L, 1L, "/uploads/b.jpg"),
+				image(12L, 1L, "/uploads/c.jpg")));
+
+		PostDTO update = posts(1).get(0);
+		update.setImagePaths(List.of("/uploads/a.jpg", "/uploads/c.jpg", "/uploads/d.jpg", "/uploads/e.jpg"));
+		postService.updatePost(update, 7L);
+
+		// b만 삭제하고 d, e를 한 번에 삽입 (a, c는 그대로)
+		verify(postDAO).deleteImagesByIds(1L, List.of(11L));
+		verify(postDAO).saveImages(1L, List.of("/uploads/d.jpg", "/uploads/e.jpg"));
+
+		update.setImagePaths(List.of("/uploads/a.jpg", "/uploads/b.jpg", "/uploads/c.jpg"));
+		postService.updatePost(update, 7L);
+
+		// 그대로면 이미지 쿼리 없음
+		verify(postDAO, times(1)).deleteImagesByIds(anyLong(), anyList());
+		verify(postDAO, times(1)).saveImages(anyLong(), anyList());
+		verify(postDAO, never()).deleteImagesByPostId(anyLong());
+	}
+
+	@Test
+	void getPostsByCursorRejectsPageSizeOutOfRange() {
+		assertThrows(IllegalArgumentException.class, () -> postService.getPostsByCursor("", 0, "최신순", null));
+		assertThrows(IllegalArgumentException.class, () -> postService.getPostsByCursor("", 101, "최신순", null));
+		verify(postDAO, never()).findAll(anyMap());
+
+		when(postDAO.findAll(anyMap())).thenReturn(List.of());
+		assertEquals(false, postService.getPostsByCursor("", 100, "최신순", null).get("hasNext"));
+	}
+
+	@Test
+	void toggleLikeAddsThenRemovesAndAdjustsCount() {
+		when(postDAO.lockPost(1L)).thenReturn(1);
+		when(postDAO.deleteLike(1L, 7L)).thenReturn(0, 1);
+		when(postDAO.addLike(1L, 7L)).thenReturn(1);
+
+		assertTrue(postService.toggleLike(1L, 7L));
+		verify(postDAO).addLikeCount(1L, 1);
+
+		assertFalse(postService.toggleLike(1L, 7L));
+		verify(postDAO).addLikeCount(1L, -1);
+		verify(postDAO, times(1)).addLike(1L, 7L);
+	}
+
+	@Test
+	void toggleLikeDoesNotCountALikeThatAlreadyExists() {
+		// 다른 요청이 먼저 넣은 좋아요와 겹치면 INSERT는 0행, 좋아요 수는 그대로이고 상태는 좋아요
+		when(postDAO.lockPost(1L)).thenReturn(1);
+		when(postDAO.deleteLike(1L, 7L)).thenReturn(0);
+		when(postDAO.addLike(1L, 7L)).thenReturn(0);
+
+		assertTrue(postService.toggleLike(1L, 7L));
+		verify(postDAO, never()).addLikeCount(anyLong(), anyInt());
+	}
+
+	@Test
+	void toggleLikeOnMissingPostFails() {
+		when(postDAO.lockPost(99L)).thenReturn(0);
+
+		assertThrows(IllegalArgumentException.class, () -> postService.toggleLike(99L, 7L));
+		verify(postDAO, never()).deleteLike(anyLong(), anyLong());
+		verify(postDAO, never()).addLike(anyLong(), anyLong());
+	}
+
+	private static List<PostDTO> posts(int count) {
+		List<PostDTO> posts = new ArrayList<>();
+		for (long id = 1; id <= count; id++) {
+			PostDTO post = new PostDTO();
+			post.setId(id);
+			posts.add(post);
+		}
+		return posts;
+	}
+
+	private static PostImageDTO image(Long postId, String imagePath) {
+		return image(null, postId, imagePath);
+	}
+
+	private static PostImageDTO image(Long id, Long postId, String imagePath) {
+		PostImageDTO image = new PostImageDTO();
+		image.setId(id);
+		image.setPostId(postId);
+		image.setImagePath(imagePath);
+		return image;
+	}
+}
@@ -0,0 +1,146 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.DAO.QnaDAO;
+import com.Trekkit_Java.DTO.QnaQuestionSummaryDTO;
+import com.Trekkit_Java.Util.CursorCodec;
+
+// qnamapper.xml의 getQuestionSummaries와 같은 조건(필터, 커서 이후 seek, 정렬, LIMIT)을 메모리에서 적용하는 가짜 DAO로 페이지를 이어 봅니다.
+class QnaServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+	private final List<QnaQuestionSummaryDTO> table = new ArrayList<>();
+	private QnaService qnaService;
+
+	@BeforeEach
+	void setUp() {
+		// id, 작성 시각(분), 좋아요, 답변 (같은 시각/같은 개수가 겹치도록)
+		table.add(question(1, 10, 5, 0));
+		table.add(question(2, 10, 5, 2));
+		table.add(question(3, 20, 1, 2));
+		table.add(question(4, 20, 5, 2));
+		table.add(question(5, 30, 0, 1));
+		table.add(question(6, 10, 1, 0));
+		table.add(question(7, 30, 1, 2));
+		table.get(5).setMountain("설악산");
+		table.get(5).setSolved(true);
+
+		QnaDAO qnaDAO = mock(QnaDAO.class);
+		when(qnaDAO.getQuestionSummaries(anyMap())).thenAnswer(inv -> query(inv.getArgument(0)));
+		qnaService = new QnaService();
+		ReflectionTestUtils.setField(qnaService, "qnaDAO", qnaDAO);
+	}
+
+	@Test
+	void pagesContinueWithoutGapsOrDuplicatesForEverySort() {
+		assertEquals(List.of(7, 5, 4, 3, 6, 2, 1), allPages("latest"));
+		assertEquals(List.of(4, 2, 1, 7, 3, 6, 5), allPages("likes"));
+		assertEquals(List.of(7, 4, 3, 2, 5, 6, 1), allPages("answers"));
+		assertEquals(List.of(7, 5, 4, 3, 6, 2, 1), allPages("unknown")); // 알 수 없는 정렬은 최신순
+	}
+
+	@Test
+	void tiesAreBrokenById() {
+		// 최신순 2번째 페이지가 작성 시각이 같은 6, 2, 1 사이에서 끊기도록 크기 5
+		Map<String, Object> first = qnaService.getQuestionPage(null, null, "latest", null, 5);
+		assertEquals(List.of(7, 5, 4, 3, 6), ids(first));
+		Map<String, Object> second = qnaService.getQuestionPage(null, null, "latest", (String) first.get("nextCursor"), 5);
+		assertEquals(List.of(2, 1), ids(second));
+		assertFalse((Boolean) second.get("hasNext"));
+		assertNull(second.get("nextCursor"));
+	}
+
+	@Test
+	void filtersApply() {
+		assertEquals(List.of(6), ids(qnaService.getQuestionPage("설악산", null, "likes", null, 10)));
+		assertEquals(List.of(6), ids(qnaService.getQuestionPage(null, true, "latest", null, 10)));
+		assertEquals(List.of(7, 5, 4, 3, 2, 1), ids(qnaService.getQuestionPage(null, false, "latest", null, 10)));
+	}
+
+	@Test
+	void invalidCursorsAreRejected() {
+		String latestCursor = (String) qnaService.getQuestionPage(null, null, "latest", null, 2).get("nextCursor");
+		assertThrows(IllegalArgumentException.class, () -> qnaService.getQuestionPage(null, null, "likes", latestCursor, 2));
+		assertThrows(IllegalArgumentException.class, () -> qnaService.getQuestionPage(null, null, "latest", "!!!", 2));
+		assertThrows(IllegalArgumentException.class,
+				() -> qnaService.getQuestionPage(null, null, "latest", CursorCodec.encode("latest", "어제", 3), 2));
+		assertThrows(IllegalArgumentException.class,
+				() -> qnaService.getQuestionPage(null, null, "likes", CursorCodec.encode("likes", "x", BASE, 3), 2));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Integer> ids(Map<String, Object> page) {
+		return ((List<QnaQuestionSummaryDTO>) page.get("questions")).stream().map(QnaQuestionSummaryDTO::getId).toList();
+	}
+
+	private List<Integer> allPages(String sort) {
+		List<Integer> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			Map<String, Object> page = qnaService.getQuestionPage(null, null, sort, cursor, 2);
+			ids.addAll(ids(page));
+			cursor = (String) page.get("nextCursor");
+		} while (cursor != null);
+		return ids;
+	}
+
+	// 매퍼와 같은 순서: (좋아요/답변 수) DESC, created_at DESC, id DESC
+	private List<QnaQuestionSummaryDTO> query(Map<String, Object> params) {
+		String sort = (String) params.get("sort");
+		Comparator<QnaQuestionSummaryDTO> ascending = Comparator.comparingInt(q -> countOf(q, sort));
+		ascending = ascending.thenComparing(QnaQuestionSummaryDTO::getCreatedAt).thenComparingInt(QnaQuestionSummaryDTO::getId);
+		Comparator<QnaQuestionSummaryDTO> order = ascending.reversed();
+
+		QnaQuestionSummaryDTO cursor = null;
+		if (params.get("cursorId") != null) {
+			long count = params.get("cursorCount") == null ? 0 : (Long) params.get("cursorCount");
+			cursor = question(((Long) params.get("cursorId")).intValue(), 0, (int) count, (int) count);
+			cursor.setCreatedAt((LocalDateTime) params.get("cursorCreatedAt"));
+		}
+		QnaQuestionSummaryDTO after = cursor;
+		String mountain = (String) params.get("mountain");
+		Boolean solved = (Boolean) params.get("solved");
+		return table.stream()
+				.filter(q -> mountain == null || mountain.equals(q.getMountain()))
+				.filter(q -> solved == null || solved == q.isSolved())
+				.filter(q -> after == null || order.compare(q, after) > 0)
+				.sorted(order)
+				.limit((Integer) params.get("limit"))
+				.toList();
+	}
+
+	private static int countOf(QnaQuestionSummaryDTO q, String sort) {
+		return switch (sort) {
+			case "likes" -> q.getLikeCount();
+			case "answers" -> q.getAnswerCount();
+			default -> 0;
+		};
+	}
+
+	private static QnaQuestionSummaryDTO question(int id, int minute, int likes, int answers) {
+		QnaQuestionSummaryDTO q = new QnaQuestionSummaryDTO();
+		q.setId(id);
+		q.setCreatedAt(BASE.plusMinutes(minute));
+		q.setLikeCount(likes);
+		q.setAnswerCount(answers);
+		return q;
+	}
+}
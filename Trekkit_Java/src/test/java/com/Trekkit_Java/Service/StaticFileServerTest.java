@@ -0,0 +1,108 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class StaticFileServerTest {
+
+	private static final String HASH = "ab".repeat(32);
+
+	@TempDir
+	Path root;
+
+	private final StaticFileServer server = new StaticFileServer();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Files.createDirectories(root.resolve("img/ab"));
+		Files.writeString(root.resolve("img/ab/" + HASH + "_t.jpg"), "0123456789");
+		Files.writeString(root.resolve("legacy.png"), "legacy-bytes");
+		Files.createDirectories(root.resolve("cache"));
+		Files.writeString(root.resolve("cache/secret.json"), "{}");
+	}
+
+	@Test
+	void contentAddressedFilesAreImmutableAndRevalidateTo304() throws Exception {
+		MockHttpServletResponse first = serve(get(), "img/ab/" + HASH + "_t.jpg");
+		assertEquals(200, first.getStatus());
+		assertEquals("\"" + HASH + "_t\"", first.getHeader("ETag"));
+		assertTrue(first.getHeader("Cache-Control").contains("immutable"));
+		assertEquals("image/jpeg", first.getContentType());
+		assertEquals("0123456789", first.getContentAsString());
+
+		MockHttpServletRequest conditional = get();
+		conditional.addHeader("If-None-Match", "\"other\", " + first.getHeader("ETag"));
+		MockHttpServletResponse second = serve(conditional, "img/ab/" + HASH + "_t.jpg");
+		assertEquals(304, second.getStatus());
+		assertEquals(0, second.getContentAsByteArray().length);
+	}
+
+	@Test
+	void legacyFilesGetContentHashETag() throws Exception {
+		MockHttpServletResponse response = serve(get(), "legacy.png");
+		assertEquals(66, response.getHeader("ETag").length()); // "sha256 hex"
+		assertEquals("public, max-age=86400", response.getHeader("Cache-Control"));
+		assertEquals(response.getHeader("ETag"), serve(get(), "legacy.png").getHeader("ETag"));
+	}
+
+	@Test
+	void servesSingleByteRanges() throws Exception {
+		MockHttpServletRequest request = get();
+		request.addHeader("Range", "bytes=2-5");
+		MockHttpServletResponse partial = serve(request, "img/ab/" + HASH + "_t.jpg");
+		assertEquals(206, partial.getStatus());
+		assertEquals("bytes 2-5/10", partial.getHeader("Content-Range"));
+		assertArrayEquals("2345".getBytes(StandardCharsets.UTF_8), partial.getContentAsByteArray());
+
+		MockHttpServletRequest suffix = get();
+		suffix.addHeader("Range", "bytes=-3");
+		assertEquals("789", serve(suffix, "img/ab/" + HASH + "_t.jpg").getContentAsString());
+
+		MockHttpServletRequest outside = get();
+		outside.addHeader("Range", "bytes=20-");
+		assertEquals(416, serve(outside, "img/ab/" + HASH + "_t.jpg").getStatus());
+
+		MockHttpServletRequest staleIfRange = get();
+		staleIfRange.addHeader("Range", "bytes=2-5");
+		staleIfRange.addHeader("If-Range", "\"old\"");
+		assertEquals(200, serve(staleIfRange, "img/ab/" + HASH + "_t.jpg").getStatus());
+	}
+
+	@Test
+	void rejectsTraversalAndHiddenFolders() throws Exception {
+		assertEquals(404, serve(get(), "../outside.txt").getStatus());
+		assertEquals(404, serve(get(), "cache/secret.json").getStatus());
+		assertEquals(404, serve(get(), "missing.jpg").getStatus());
+	}
+
+	@Test
+	void handsOffToSendfileWhenContainerSupportsIt() throws Exception {
+		MockHttpServletRequest request = get();
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		MockHttpServletResponse response = serve(request, "legacy.png");
+		assertEquals(0, response.getContentAsByteArray().length);
+		assertEquals(0L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+		assertEquals(12L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+	}
+
+	private MockHttpServletResponse serve(MockHttpServletRequest request, String relative) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		server.serve(request, response, root, relative, "cache");
+		return response;
+	}
+
+	private static MockHttpServletRequest get() {
+		return new MockHttpServletRequest("GET", "/uploads/x");
+	}
+}
@@ -0,0 +1,71 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Trekkit_Java.DAO.ThemeDAO;
+import com.Trekkit_Java.DTO.OnlyTheme;
+import com.Trekkit_Java.DTO.Theme;
+
+class ThemeCatalogTest {
+
+	private ThemeDAO themeDAO;
+	private ThemeCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		themeDAO = mock(ThemeDAO.class);
+		when(themeDAO.getThemes()).thenReturn(List.of(onlyTheme("단풍 명산")));
+		when(themeDAO.getAllThemeDetails()).thenReturn(List.of(theme("단풍 명산", "내장산")));
+		catalog = new ThemeCatalog();
+		ReflectionTestUtils.setField(catalog, "themeDAO", themeDAO);
+		catalog.init();
+	}
+
+	@Test
+	void servesFromSnapshotWithoutDbWork() {
+		for (int i = 0; i < 3; i++) {
+			assertEquals("내장산", catalog.detail("단풍 명산").body().getMountain1_name());
+			assertEquals(1, catalog.themes().body().size());
+		}
+		assertNull(catalog.detail("없는 테마"));
+		verify(themeDAO, times(1)).getAllThemeDetails();
+		verify(themeDAO, times(1)).getThemes();
+	}
+
+	@Test
+	void refreshSwapsSnapshotAndChangesETag() {
+		String before = catalog.detail("단풍 명산").etag();
+		catalog.refresh();
+		assertEquals(before, catalog.detail("단풍 명산").etag()); // 내용이 같으면 ETag도 같음
+
+		when(themeDAO.getAllThemeDetails()).thenReturn(List.of(theme("단풍 명산", "설악산")));
+		catalog.refresh();
+		assertEquals("설악산", catalog.detail("단풍 명산").body().getMountain1_name());
+		assertNotEquals(before, catalog.detail("단풍 명산").etag());
+	}
+
+	private static OnlyTheme onlyTheme(String name) {
+		OnlyTheme theme = new OnlyTheme();
+		theme.setName(name);
+		return theme;
+	}
+
+	private static Theme theme(String name, String mountain) {
+		Theme theme = new Theme();
+		theme.setTheme_name(name);
+		theme.setMountain1_name(mountain);
+		return theme;
+	}
+}
@@ -0,0 +1,110 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.Trekkit_Java.Util.TrailFile;
+import com.Trekkit_Java.Util.TrailImporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 잔굴곡이 많은 등산로(서울)와 두 구간짜리 등산로(부산)를 변환해서 로컬 저장소로 조회합니다.
+class TrailStoreTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@TempDir
+	Path uploadDir;
+
+	private TrailStore store;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		StringBuilder wiggly = new StringBuilder();
+		for (int i = 0; i <= 100; i++) {
+			wiggly.append(i == 0 ? "" : ",").append('[').append(127.0 + i * 0.0001).append(',')
+					.append(37.5 + (i % 2) * 0.00001).append(']');
+		}
+		String geojson = "{\"response\":{\"status\":\"OK\",\"result\":{\"featureCollection\":{\"type\":\"FeatureCollection\",\"features\":["
+				+ "{\"type\":\"Feature\",\"id\":\"trail.1\",\"properties\":{\"mntn_nm\":\"북한산\"},"
+				+ "\"geometry\":{\"type\":\"LineString\",\"coordinates\":[" + wiggly + "]}},"
+				+ "{\"type\":\"Feature\",\"id\":\"trail.1\",\"properties\":{\"mntn_nm\":\"북한산\"},"
+				+ "\"geometry\":{\"type\":\"LineString\",\"coordinates\":[" + wiggly + "]}},"
+				+ "{\"type\":\"Feature\",\"id\":\"trail.2\",\"properties\":{\"mntn_nm\":\"금정산\"},"
+				+ "\"geometry\":{\"type\":\"MultiLineString\",\"coordinates\":[[[129.05,35.28],[129.06,35.29]],[[129.06,35.29],[129.07,35.27]]]}}"
+				+ "]}}}}";
+		List<TrailFile.Trail> trails = TrailImporter.read(new ByteArrayInputStream(geojson.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(2, trails.size()); // id가 같은 feature는 한 번만
+
+		TrailFile.write(uploadDir.resolve("trails").resolve("LT_L_FRSTCLIMB.bin"), trails);
+		store = new TrailStore(uploadDir.toString(), "");
+		store.init();
+	}
+
+	@Test
+	void bboxReturnsOnlyOverlappingTrails() throws Exception {
+		JsonNode features = features(store.getTrails(37.4, 126.9, 37.6, 127.1, 22));
+		assertEquals(1, features.size());
+		assertEquals("trail.1", features.get(0).path("id").asText());
+		assertEquals("북한산", features.get(0).path("properties").path("mntn_nm").asText());
+		assertEquals(101, features.get(0).path("geometry").path("coordinates").get(0).size());
+
+		JsonNode busan = features(store.getTrails(35.0, 129.0, 35.5, 129.5, null)).get(0);
+		assertEquals(2, busan.path("geometry").path("coordinates").size());
+
+		JsonNode empty = MAPPER.readTree(store.getTrails(33.0, 126.0, 33.1, 126.1, null));
+		assertEquals("NOT_FOUND", empty.path("response").path("status").asText());
+		assertThrows(IllegalArgumentException.class, () -> store.getTrails(38, 127, 37, 128, null));
+		assertThrows(IllegalArgumentException.class, () -> store.getTrails(37, 127, 91, 128, null));
+		assertThrows(IllegalArgumentException.class, () -> store.getTrails(Double.NaN, 127, 38, 128, null));
+	}
+
+	@Test
+	void missingZoomIsDerivedFromBbox() throws Exception {
+		// 0.2도 범위를 1024픽셀로 보면 1픽셀은 약 0.0002도, 0.00001도 굴곡은 사라짐
+		assertEquals(2, features(store.getTrails(37.4, 126.9, 37.6, 127.1, null)).get(0)
+				.path("geometry").path("coordinates").get(0).size());
+	}
+
+	@Test
+	void tooManyTrailsAskToZoomIn() throws Exception {
+		TrailStore capped = new TrailStore(uploadDir.toString(), "", 1);
+		capped.init();
+		assertEquals(1, features(capped.getTrails(37.4, 126.9, 37.6, 127.1, null)).size());
+		assertThrows(IllegalArgumentException.class, () -> capped.getTrails(33, 124, 39, 132, null));
+	}
+
+	@Test
+	void lowZoomDropsSubPixelWiggles() throws Exception {
+		JsonNode line = features(store.getTrails(37.4, 126.9, 37.6, 127.1, 10)).get(0)
+				.path("geometry").path("coordinates").get(0);
+		assertEquals(2, line.size()); // 양 끝점만 남음
+		assertEquals(127.0, line.get(0).get(0).asDouble(), 1e-4);
+		assertEquals(127.01, line.get(1).get(0).asDouble(), 1e-4);
+
+		// 줌을 충분히 키우면 굴곡이 다시 보임
+		assertEquals(101, features(store.getTrails(37.4, 126.9, 37.6, 127.1, 22)).get(0)
+				.path("geometry").path("coordinates").get(0).size());
+	}
+
+	@Test
+	void missingFileFallsBack() {
+		TrailStore empty = new TrailStore(uploadDir.resolve("none").toString(), "");
+		empty.init();
+		assertFalse(empty.isAvailable());
+	}
+
+	private static JsonNode features(String json) throws Exception {
+		return MAPPER.readTree(json).path("response").path("result").path("featureCollection").path("features");
+	}
+}
@@ -0,0 +1,133 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.Trekkit_Java.DAO.ImageRefDAO;
+
+class UploadSweeperTest {
+
+	private static final String KEPT = "a".repeat(64);
+	private static final String ORPHAN = "b".repeat(64);
+	private static final String LEGACY = "123e4567-e89b-12d3-a456-426614174000";
+
+	@TempDir
+	Path uploads;
+
+	@TempDir
+	Path profiles;
+
+	private final ImageRefDAO imageRefDAO = mock(ImageRefDAO.class);
+	private ImagePipeline pipeline;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		pipeline = new ImagePipeline(imageRefDAO, uploads.resolve("img"), profiles, 1);
+		when(imageRefDAO.findAllReferencedPaths()).thenReturn(List.of(
+				"/uploads/img/aa/" + KEPT + ".jpg", "/profile/" + LEGACY + "_me.png"));
+
+		for (String name : List.of(KEPT + ".jpg", KEPT + "_m.jpg", KEPT + "_t.jpg")) {
+			old(uploads.resolve("img/aa/" + name));
+		}
+		for (String name : List.of(ORPHAN + ".jpg", ORPHAN + "_m.jpg", ORPHAN + "_t.jpg", ORPHAN + ".jpg123.tmp")) {
+			old(uploads.resolve("img/bb/" + name));
+		}
+		old(uploads.resolve(LEGACY + ".png")); // 글이 만들어지지 않은 예전 업로드
+		old(uploads.resolve("README.txt")); // 업로드가 아닌 파일
+		old(uploads.resolve("cache/vworld/" + LEGACY + ".json"));
+		Files.writeString(uploads.resolve("c".repeat(64) + ".jpg"), "x"); // 방금 올라온 파일
+		old(profiles.resolve(LEGACY + "_me.png"));
+		old(profiles.resolve(LEGACY + "_old.png"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.shutdown();
+	}
+
+	@Test
+	void deletesOnlyOldUnreferencedUploadsAcrossBatches() throws Exception {
+		UploadSweeper sweeper = sweeper();
+		int deleted = 0, calls = 0;
+		UploadSweeper.Batch batch;
+		do {
+			batch = sweeper.sweep();
+			assertTrue(batch.scanned() <= 3);
+			deleted += batch.deleted();
+			calls++;
+		} while (!batch.passCompleted());
+
+		assertTrue(calls > 3); // 여러 번에 나눠서 봄
+		assertEquals(6, deleted);
+		assertTrue(Files.exists(uploads.resolve("img/aa/" + KEPT + "_t.jpg")));
+		assertFalse(Files.exists(uploads.resolve("img/bb/" + ORPHAN + "_m.jpg")));
+		assertFalse(Files.exists(uploads.resolve("img/bb/" + ORPHAN + ".jpg123.tmp")));
+		assertFalse(Files.exists(uploads.resolve(LEGACY + ".png")));
+		assertTrue(Files.exists(uploads.resolve("README.txt")));
+		assertTrue(Files.exists(uploads.resolve("cache/vworld/" + LEGACY + ".json")));
+		assertTrue(Files.exists(uploads.resolve("c".repeat(64) + ".jpg")));
+		assertTrue(Files.exists(profiles.resolve(LEGACY + "_me.png")));
+		assertFalse(Files.exists(profiles.resolve(LEGACY + "_old.png")));
+	}
+
+	@Test
+	void reuploadOfOrphanedImageKeepsAndRestoresVariants() throws Exception {
+		String url = pipeline.storePostImages(new MultipartFile[] { png("a.png") }).get(0);
+		for (String u : List.of(url, ImagePipeline.mediumOf(url), ImagePipeline.thumbnailOf(url))) {
+			Files.setLastModifiedTime(pipeline.fileOf(u), FileTime.fromMillis(0)); // 참조 없이 오래된 이미지
+		}
+
+		// 같은 사진을 다시 올림 -> 원본만이 아니라 세 파일 모두 재사용 시각으로 갱신
+		assertEquals(url, pipeline.storePostImages(new MultipartFile[] { png("again.png") }).get(0));
+		sweepPass(sweeper());
+		assertTrue(Files.exists(pipeline.fileOf(url)));
+		assertTrue(Files.exists(pipeline.fileOf(ImagePipeline.mediumOf(url))));
+		assertTrue(Files.exists(pipeline.fileOf(ImagePipeline.thumbnailOf(url))));
+
+		// 변형이 빠져 있으면 다시 만듦
+		Files.delete(pipeline.fileOf(ImagePipeline.thumbnailOf(url)));
+		assertEquals(url, pipeline.storePostImages(new MultipartFile[] { png("third.png") }).get(0));
+		assertTrue(Files.exists(pipeline.fileOf(ImagePipeline.thumbnailOf(url))));
+	}
+
+	private UploadSweeper sweeper() {
+		return new UploadSweeper(imageRefDAO, pipeline, uploads, profiles, 3, 1000L * 60 * 60);
+	}
+
+	private static void sweepPass(UploadSweeper sweeper) {
+		while (!sweeper.sweep().passCompleted()) {
+			// 한 바퀴 끝까지
+		}
+	}
+
+	private static MockMultipartFile png(String name) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(1000, 800, BufferedImage.TYPE_INT_RGB), "png", out);
+		return new MockMultipartFile("images", name, "image/png", out.toByteArray());
+	}
+
+	private static void old(Path file) throws Exception {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, "x");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+	}
+}
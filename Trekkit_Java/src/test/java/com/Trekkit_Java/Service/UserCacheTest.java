@@ -0,0 +1,97 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.Trekkit_Java.DAO.LoginDAO;
+import com.Trekkit_Java.DTO.User;
+
+class UserCacheTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final LoginDAO ld = mock(LoginDAO.class);
+	private UserCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new UserCache(now::get);
+		ReflectionTestUtils.setField(cache, "ld", ld);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void hitDoesNotQueryAgainUntilExpired() {
+		when(ld.findById(1L)).thenReturn(user("old"), user("new"));
+
+		assertEquals("old", cache.get(1L).getNickname());
+		now.addAndGet(1000L * 60 * 5);
+		assertEquals("old", cache.get(1L).getNickname());
+		verify(ld, times(1)).findById(1L);
+
+		now.incrementAndGet();
+		assertEquals("new", cache.get(1L).getNickname());
+		verify(ld, times(2)).findById(1L);
+	}
+
+	@Test
+	void invalidateInsideTransactionWaitsForCommit() {
+		when(ld.findById(1L)).thenReturn(user("old"), user("new"));
+		cache.get(1L);
+
+		TransactionSynchronizationManager.initSynchronization();
+		cache.invalidate(1L);
+		assertEquals("old", cache.get(1L).getNickname());
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationManager.clearSynchronization();
+		assertEquals("new", cache.get(1L).getNickname());
+	}
+
+	@Test
+	void loadRacingWithInvalidateIsNotCached() {
+		// DB에서 옛날 값을 읽은 직후, 캐시에 넣기 전에 커밋 후 invalidate가 실행되는 경우
+		when(ld.findById(1L)).thenAnswer(invocation -> {
+			cache.invalidate(1L);
+			return user("old");
+		}).thenReturn(user("new"));
+
+		assertEquals("old", cache.get(1L).getNickname());
+		assertEquals("new", cache.get(1L).getNickname());
+	}
+
+	@Test
+	void deletedUserIsDroppedAfterInvalidate() {
+		when(ld.findById(1L)).thenReturn(user("old"), (User) null);
+		cache.get(1L);
+
+		cache.invalidate(1L);
+		assertNull(cache.get(1L));
+	}
+
+	private static User user(String nickname) {
+		User user = new User();
+		user.setId(1L);
+		user.setUserid("hiker");
+		user.setNickname(nickname);
+		return user;
+	}
+}
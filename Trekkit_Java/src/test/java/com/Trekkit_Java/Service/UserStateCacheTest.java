@@ -0,0 +1,67 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class UserStateCacheTest {
+
+	private final UserStateCache cache = new UserStateCache();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void loadQueriesOnlyMissingIdsAndDefaultsToZero() {
+		AtomicInteger queries = new AtomicInteger();
+		Map<Long, Integer> first = cache.load("post", 1L, List.of(1L, 2L), missing -> {
+			queries.incrementAndGet();
+			return Map.of(2L, 3);
+		});
+		assertEquals(Map.of(1L, 0, 2L, 3), first);
+
+		Map<Long, Integer> second = cache.load("post", 1L, List.of(2L, 3L), missing -> {
+			assertEquals(List.of(3L), missing);
+			queries.incrementAndGet();
+			return Map.of();
+		});
+		assertEquals(Map.of(2L, 3, 3L, 0), second);
+		assertEquals(2, queries.get());
+	}
+
+	@Test
+	void updateAppliesOnlyAfterCommit() {
+		cache.load("post", 1L, List.of(1L), missing -> Map.of());
+
+		// 롤백: 커밋 후 작업이 실행되지 않으므로 캐시는 그대로
+		TransactionSynchronizationManager.initSynchronization();
+		cache.update("post", 1L, 1L, 1, true);
+		TransactionSynchronizationManager.clearSynchronization();
+		assertEquals(0, state(1L));
+
+		// 커밋
+		TransactionSynchronizationManager.initSynchronization();
+		cache.update("post", 1L, 1L, 1, true);
+		assertEquals(0, state(1L)); // 커밋 전에는 반영되지 않음
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationManager.clearSynchronization();
+		assertEquals(1, state(1L));
+	}
+
+	private int state(long id) {
+		return cache.load("post", 1L, List.of(id), missing -> {
+			throw new AssertionError("캐시에 있어야 함");
+		}).get(id);
+	}
+}
@@ -0,0 +1,48 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.Trekkit_Java.DAO.NoticeDAO;
+import com.Trekkit_Java.DAO.PostDAO;
+import com.Trekkit_Java.DAO.QnaDAO;
+import com.Trekkit_Java.Service.ViewCountBuffer.Target;
+
+class ViewCountBufferTest {
+
+	private final PostDAO postDAO = mock(PostDAO.class);
+	private final ViewCountBuffer buffer = new ViewCountBuffer(postDAO, mock(QnaDAO.class), mock(NoticeDAO.class));
+
+	@Test
+	void flushesDeltasAcrossIdleEviction() {
+		buffer.increment(Target.POST, 1L);
+		buffer.increment(Target.POST, 1L);
+		buffer.flush();
+		verify(postDAO).addViewCounts(Map.of(1L, 2L));
+		assertEquals(0, buffer.pendingCount(Target.POST, 1L));
+
+		buffer.flush(); // 증가분 없음 -> UPDATE 없음
+		buffer.flush(); // 두 번 연속 0 -> 항목 제거
+		verify(postDAO, times(1)).addViewCounts(anyMap());
+
+		buffer.increment(Target.POST, 1L);
+		buffer.flush();
+		verify(postDAO).addViewCounts(Map.of(1L, 1L));
+	}
+
+	@Test
+	void failedFlushKeepsDeltas() {
+		doThrow(new RuntimeException("db down")).when(postDAO).addViewCounts(anyMap());
+		buffer.increment(Target.POST, 7L);
+		buffer.flush();
+		assertEquals(1, buffer.pendingCount(Target.POST, 7L)); // 다음 flush에서 다시 시도
+	}
+}
@@ -0,0 +1,153 @@
+package com.Trekkit_Java.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.Trekkit_Java.ExternalAPI.VworldTrailSource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 브이월드 대신 타일마다 등산로 2개(하나는 모든 타일에 걸친 공통 등산로)를 돌려주는 가짜 구현을 사용합니다.
+class VworldTileCacheTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@TempDir
+	Path uploadDir;
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final VworldTrailSource stub = (minLng, minLat, maxLng, maxLat, page) -> {
+		calls.incrementAndGet();
+		try {
+			Thread.sleep(50); // 느린 외부 API
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		String tileId = Math.round(minLng * 100) + "_" + Math.round(minLat * 100);
+		return "{\"response\":{\"status\":\"OK\",\"result\":{\"featureCollection\":{\"type\":\"FeatureCollection\",\"features\":["
+				+ "{\"type\":\"Feature\",\"id\":\"trail." + tileId + "\",\"properties\":{}},"
+				+ "{\"type\":\"Feature\",\"id\":\"trail.shared\",\"properties\":{}}]}}}}";
+	};
+
+	@Test
+	void mergesTilesAndDeduplicatesSharedFeatures() throws Exception {
+		VworldTileCache cache = new VworldTileCache(stub, uploadDir.toString());
+
+		JsonNode features = features(cache.getTrails(37.601, 126.951, 37.649, 127.049)); // 1 x 2 타일
+
+		assertEquals(2, calls.get());
+		assertEquals(3, features.size()); // 타일별 2개 + 공통 1개
+		assertEquals("OK", MAPPER.readTree(cache.getTrails(37.601, 126.951, 37.649, 127.049)).path("response").path("status").asText());
+		assertEquals(2, calls.get()); // 두 번째는 메모리 캐시
+	}
+
+	@Test
+	void diskCacheSurvivesMemoryEviction() throws Exception {
+		VworldTileCache cache = new VworldTileCache(stub, uploadDir.toString());
+		cache.getTrails(37.61, 126.96, 37.62, 126.97);
+
+		VworldTileCache restarted = new VworldTileCache(stub, uploadDir.toString());
+		assertEquals(2, features(restarted.getTrails(37.61, 126.96, 37.62, 126.97)).size());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void concurrentRequestsForSameTileAreCoalesced() throws Exception {
+		VworldTileCache cache = new VworldTileCache(stub, uploadDir.toString());
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.getTrails(37.61, 126.96, 37.62, 126.97)));
+			}
+			for (Future<String> result : results) {
+				assertEquals(2, features(result.get()).size());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void wideAreaUsesCoarserSimplifiedTiles() throws Exception {
+		// 잔굴곡이 있는 등산로 하나를 돌려주는 가짜 구현
+		StringBuilder wiggly = new StringBuilder();
+		for (int i = 0; i <= 100; i++) {
+			wiggly.append(i == 0 ? "" : ",").append('[').append(127.0 + i * 0.0001).append(',')
+					.append(37.5 + (i % 2) * 0.00001).append(']');
+		}
+		AtomicInteger coarseCalls = new AtomicInteger();
+		VworldTrailSource source = (minLng, minLat, maxLng, maxLat, page) -> {
+			coarseCalls.incrementAndGet();
+			return "{\"response\":{\"status\":\"OK\",\"result\":{\"featureCollection\":{\"type\":\"FeatureCollection\",\"features\":["
+					+ "{\"type\":\"Feature\",\"id\":\"trail.1\",\"properties\":{},"
+					+ "\"geometry\":{\"type\":\"MultiLineString\",\"coordinates\":[[" + wiggly + "]]}}]}}}}";
+		};
+		VworldTileCache cache = new VworldTileCache(source, uploadDir.toString());
+
+		// 남한 전체 (기본 타일이면 수천 개) -> 64개 이하의 상위 레벨 타일
+		JsonNode features = features(cache.getTrails(33.0, 126.0, 38.0, 129.0));
+		assertTrue(coarseCalls.get() <= 64);
+		assertEquals(1, features.size());
+		assertEquals(2, features.get(0).path("geometry").path("coordinates").get(0).size()); // 양 끝점만 남음
+
+		// 확대하면 원래 타일, 원래 굴곡
+		assertEquals(101, features(cache.getTrails(37.49, 126.99, 37.51, 127.02)).get(0)
+				.path("geometry").path("coordinates").get(0).size());
+	}
+
+	@Test
+	void rejectsAreaWiderThanTheCoarsestLevel() {
+		VworldTileCache cache = new VworldTileCache(stub, uploadDir.toString());
+		assertThrows(IllegalArgumentException.class, () -> cache.getTrails(-80.0, -170.0, 80.0, 170.0));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	void readsEveryPageOfADenseTile() throws Exception {
+		VworldTileCache cache = new VworldTileCache(paged(3), uploadDir.toString());
+
+		assertEquals(3, features(cache.getTrails(37.61, 126.96, 37.62, 126.97)).size());
+		assertEquals(3, calls.get());
+		cache.getTrails(37.61, 126.96, 37.62, 126.97);
+		assertEquals(3, calls.get()); // 다 받은 타일은 캐시
+	}
+
+	@Test
+	void truncatedTileIsNotCached() throws Exception {
+		VworldTileCache cache = new VworldTileCache(paged(100), uploadDir.toString());
+
+		assertEquals(10, features(cache.getTrails(37.61, 126.96, 37.62, 126.97)).size());
+		assertEquals(10, calls.get());
+		cache.getTrails(37.61, 126.96, 37.62, 126.97);
+		assertEquals(20, calls.get()); // 잘린 타일은 다시 요청
+	}
+
+	// 페이지마다 등산로 1개, 전체 pages 페이지
+	private VworldTrailSource paged(int pages) {
+		return (minLng, minLat, maxLng, maxLat, page) -> {
+			calls.incrementAndGet();
+			return "{\"response\":{\"status\":\"OK\",\"page\":{\"total\":\"" + pages + "\",\"current\":\"" + page + "\"},"
+					+ "\"result\":{\"featureCollection\":{\"type\":\"FeatureCollection\",\"features\":["
+					+ "{\"type\":\"Feature\",\"id\":\"trail." + page + "\",\"properties\":{}}]}}}}";
+		};
+	}
+
+	private static JsonNode features(String json) throws Exception {
+		return MAPPER.readTree(json).path("response").path("result").path("featureCollection").path("features");
+	}
+}